@@ -1,8 +1,28 @@
 package com.krishna.gateway;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.krishna.gateway.configuration.RateLimitProperties;
+import com.krishna.gateway.configuration.ResponseCacheProperties;
+import com.krishna.gateway.endpoint.ResponseCacheEndpoint;
+import com.krishna.gateway.filter.CoalescingFilter;
+import com.krishna.gateway.filter.ExamPayloadGatewayFilterFactory;
+import com.krishna.gateway.filter.JwtAuthenticationFilter;
+import com.krishna.gateway.filter.RateLimitFilter;
+import com.krishna.gateway.filter.ResponseCacheFilter;
+import com.krishna.gateway.filter.ResponseCacheStore;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -12,4 +32,138 @@ public class ApiGatewayApplication {
 		SpringApplication.run(ApiGatewayApplication.class, args);
 	}
 
+	/**
+	 * Verifies the bearer token of every request to a protected path.
+	 * Turned off with gateway.auth.enabled=false.
+	 * @param secret The Base64 encoded key the auth service signs with.
+	 * @param cacheSize The most verified tokens kept.
+	 * @param openPaths The path patterns reachable without a token.
+	 * @return the filter.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gateway.auth.enabled",
+			havingValue = "true", matchIfMissing = true)
+	public JwtAuthenticationFilter jwtAuthenticationFilter(
+			@Value("${gateway.auth.secret}") final String secret,
+			@Value("${gateway.auth.cache-size:10000}") final int cacheSize,
+			@Value("${gateway.auth.open-paths:/auth/**,/users/save,"
+					+ "/users/login}") final List<String> openPaths) {
+		return new JwtAuthenticationFilter(secret, cacheSize, openPaths);
+	}
+
+	/**
+	 * The settings of the rate limiter.
+	 * @return the properties bound from gateway.rate-limit.
+	 */
+	@Bean
+	@ConfigurationProperties(prefix = "gateway.rate-limit")
+	public RateLimitProperties rateLimitProperties() {
+		return new RateLimitProperties();
+	}
+
+	/**
+	 * Limits the requests to the configured routes per user or client
+	 * address. Turned off with gateway.rate-limit.enabled=false.
+	 * @param properties The settings of the rate limiter.
+	 * @param authEnabled Whether the gateway verifies tokens; when it does
+	 *        not, callers are only told apart by address.
+	 * @return the filter.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gateway.rate-limit.enabled",
+			havingValue = "true", matchIfMissing = true)
+	public RateLimitFilter rateLimitFilter(
+			final RateLimitProperties properties,
+			@Value("${gateway.auth.enabled:true}") final boolean authEnabled) {
+		return new RateLimitFilter(properties, authEnabled);
+	}
+
+	/**
+	 * The settings of the response cache.
+	 * @return the properties bound from gateway.cache.
+	 */
+	@Bean
+	@ConfigurationProperties(prefix = "gateway.cache")
+	public ResponseCacheProperties responseCacheProperties() {
+		return new ResponseCacheProperties();
+	}
+
+	/**
+	 * The responses cached by the gateway, with their metrics.
+	 * @param properties The settings of the response cache.
+	 * @return the store.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gateway.cache.enabled",
+			havingValue = "true", matchIfMissing = true)
+	public ResponseCacheStore responseCacheStore(
+			final ResponseCacheProperties properties) {
+		return new ResponseCacheStore(properties.getMaxBytes(),
+				properties.getMaxEntries());
+	}
+
+	/**
+	 * Serves repeated GETs of the configured routes from the cache.
+	 * @param store The responses cached by the gateway.
+	 * @param properties The settings of the response cache.
+	 * @return the filter.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gateway.cache.enabled",
+			havingValue = "true", matchIfMissing = true)
+	public ResponseCacheFilter responseCacheFilter(
+			final ResponseCacheStore store,
+			final ResponseCacheProperties properties) {
+		return new ResponseCacheFilter(store, properties);
+	}
+
+	/**
+	 * The admin endpoint purging the response cache.
+	 * @param store The responses cached by the gateway.
+	 * @return the endpoint.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gateway.cache.enabled",
+			havingValue = "true", matchIfMissing = true)
+	public ResponseCacheEndpoint responseCacheEndpoint(
+			final ResponseCacheStore store) {
+		return new ResponseCacheEndpoint(store);
+	}
+
+	/**
+	 * Shares one call to the services between identical concurrent GETs.
+	 * Turned off with gateway.coalescing.enabled=false.
+	 * @param paths The path patterns whose GETs are coalesced.
+	 * @param maxBodyBytes The largest body shared between requests.
+	 * @return the filter.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gateway.coalescing.enabled",
+			havingValue = "true", matchIfMissing = true)
+	public CoalescingFilter coalescingFilter(
+			@Value("${gateway.coalescing.paths:/exams/**,"
+					+ "/api/questions/byquiz/**,/quizzes/**,/category/**}")
+			final List<String> paths,
+			@Value("${gateway.coalescing.max-body-bytes:1048576}")
+			final long maxBodyBytes) {
+		return new CoalescingFilter(paths, maxBodyBytes);
+	}
+
+	/**
+	 * The ExamPayload route filter, answering /exams/{quizId} with the
+	 * quiz, its category and its questions in one document.
+	 * @param webClientBuilder The builder of the client calling the services.
+	 * @param loadBalancer Resolves the lb:// URIs of the services.
+	 * @param objectMapper The mapper reading and writing the documents.
+	 * @return the filter factory.
+	 */
+	@Bean
+	public ExamPayloadGatewayFilterFactory examPayloadGatewayFilterFactory(
+			final WebClient.Builder webClientBuilder,
+			final ReactorLoadBalancerExchangeFilterFunction loadBalancer,
+			final ObjectMapper objectMapper) {
+		return new ExamPayloadGatewayFilterFactory(
+				webClientBuilder.filter(loadBalancer).build(), objectMapper);
+	}
+
 }
@@ -0,0 +1,61 @@
+package com.krishna.gateway.configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The settings of the gateway rate limiter, under gateway.rate-limit.
+ */
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /**
+     * The limit of a route, applied to every user or client address on
+     * its own.
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * The path pattern of the route, e.g. /users/login.
+         */
+        private String path;
+
+        /**
+         * The methods limited; every method when empty.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * The most requests allowed at once, i.e. the size of the bucket.
+         */
+        private int capacity = 10;
+
+        /**
+         * The time in which an empty bucket fills up again.
+         */
+        private Duration period = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Whether requests are limited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The most buckets kept; beyond it the full ones are dropped, then
+     * those nearest to full.
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * The limited routes; the first matching one applies.
+     */
+    private List<Route> routes = new ArrayList<>();
+}
@@ -0,0 +1,67 @@
+package com.krishna.gateway.configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The settings of the gateway response cache, under gateway.cache.
+ */
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    /**
+     * The routes whose GET responses are cached.
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * The path pattern of the route, e.g. /quizzes/**.
+         */
+        private String path;
+
+        /**
+         * How long a response is kept; a shorter max-age sent by the
+         * service wins.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * The path patterns whose successful non-GET requests drop the
+         * cached responses of the route; the route path when empty.
+         */
+        private List<String> invalidatedBy = new ArrayList<>();
+    }
+
+    /**
+     * Whether responses are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The most bytes of responses kept in total, counting their keys and
+     * headers as well as their bodies.
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * The most responses kept.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * The largest response body that is cached.
+     */
+    private int maxBodyBytes = 1024 * 1024;
+
+    /**
+     * The cached routes; the first matching one applies.
+     */
+    private List<Route> routes = new ArrayList<>();
+}
@@ -0,0 +1,52 @@
+package com.krishna.gateway.endpoint;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import com.krishna.gateway.filter.ResponseCacheStore;
+
+/**
+ * The admin endpoint of the gateway response cache, at
+ * /actuator/gatewaycache: GET shows its size, DELETE with an optional
+ * prefix parameter purges the responses whose path starts with it.
+ */
+@Endpoint(id = "gatewaycache")
+public class ResponseCacheEndpoint {
+
+    /**
+     * This is use to read and purge the cached responses.
+     */
+    private final ResponseCacheStore store;
+
+    /**
+     * Constructs the endpoint.
+     * @param responseStore The store of the cached responses.
+     */
+    public ResponseCacheEndpoint(final ResponseCacheStore responseStore) {
+        this.store = responseStore;
+    }
+
+    /**
+     * Shows the size of the cache.
+     * @return The number of responses and the bytes of their bodies.
+     */
+    @ReadOperation
+    public Map<String, Long> size() {
+        return Map.of("responses", (long) store.size(),
+                "bytes", store.bytes());
+    }
+
+    /**
+     * Purges the responses whose path starts with a prefix.
+     * @param prefix The path prefix, e.g. /quizzes/12; all when omitted.
+     * @return The number of purged responses.
+     */
+    @DeleteOperation
+    public Map<String, Integer> purge(@Nullable final String prefix) {
+        return Map.of("purged", store.purge(prefix == null ? "" : prefix));
+    }
+}
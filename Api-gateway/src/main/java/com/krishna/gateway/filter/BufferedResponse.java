@@ -0,0 +1,103 @@
+package com.krishna.gateway.filter;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A complete response read from a service, which the gateway can write
+ * again to other requests.
+ * @param status The status of the response.
+ * @param headers The headers to replay, read-only.
+ * @param body The body.
+ */
+record BufferedResponse(HttpStatusCode status, HttpHeaders headers,
+        byte[] body) {
+
+    /**
+     * The header telling whether the response came from the cache.
+     */
+    static final String CACHE_HEADER = "X-Cache";
+
+    /**
+     * The response headers that are not replayed.
+     */
+    private static final List<String> UNREPLAYED_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION, HttpHeaders.DATE, CACHE_HEADER);
+
+    /**
+     * Reads the status and headers of a response around its body.
+     * @param response The response from the service.
+     * @param body The body.
+     * @return The buffered response.
+     */
+    static BufferedResponse capture(final ServerHttpResponse response,
+            final byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            if (UNREPLAYED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.addAll(name, values);
+            }
+        });
+        HttpStatusCode status = response.getStatusCode();
+        return new BufferedResponse(status == null ? HttpStatus.OK : status,
+                HttpHeaders.readOnlyHttpHeaders(headers), body);
+    }
+
+    /**
+     * Getter for the entity tag of the body.
+     * @return the entity tag, or null if there is none.
+     */
+    String etag() {
+        return headers.getETag();
+    }
+
+    /**
+     * Writes the response to an exchange, or 304 for a 200 response whose
+     * entity tag matches the If-None-Match of the request.
+     * @param exchange The exchange to answer.
+     * @return Completes when the response is written.
+     */
+    Mono<Void> writeTo(final ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().addAll(headers);
+        if (status.value() == HttpStatus.OK.value()
+                && matches(exchange.getRequest().getHeaders(), etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(
+                response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * Tells whether If-None-Match names an entity tag.
+     * @param requestHeaders The request headers.
+     * @param etag The entity tag, may be null.
+     * @return True if the client already has the body.
+     */
+    static boolean matches(final HttpHeaders requestHeaders,
+            final String etag) {
+        if (etag == null) {
+            return false;
+        }
+        String strong = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : requestHeaders.getIfNoneMatch()) {
+            String tag = candidate.startsWith("W/")
+                    ? candidate.substring(2) : candidate;
+            if ("*".equals(tag) || strong.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,252 @@
+package com.krishna.gateway.filter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Shares one call to the service between identical GET requests of the
+ * configured paths that arrive while it is in flight. The first request is
+ * forwarded and its response read into memory; the requests with the same
+ * path and query that arrive before it completes wait for it and are all
+ * answered with the same status, headers and body. Nothing is kept once
+ * the response is written, so the next request is forwarded again. If the
+ * shared call is cancelled or its body is too large to share, the waiting
+ * requests are forwarded on their own.
+ */
+public class CoalescingFilter implements GlobalFilter, Ordered, MeterBinder {
+
+    /**
+     * The order of the filter; it runs after the response cache, so only
+     * cache misses are coalesced.
+     */
+    public static final int ORDER = ResponseCacheFilter.ORDER + 10;
+
+    /**
+     * The calls in flight by path and query.
+     */
+    private final Map<String, Sinks.One<Optional<BufferedResponse>>>
+            inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The path patterns whose GET requests are coalesced.
+     */
+    private final List<String> paths;
+
+    /**
+     * The largest body shared between requests.
+     */
+    private final long maxBodyBytes;
+
+    /**
+     * This is use to match the paths against the coalesced path patterns.
+     */
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * The number of requests forwarded to the service.
+     */
+    private final AtomicLong forwarded = new AtomicLong();
+
+    /**
+     * The number of requests answered with the response of another.
+     */
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Constructs the filter.
+     * @param coalescedPaths The path patterns whose GETs are coalesced.
+     * @param maxSharedBodyBytes The largest body shared between requests.
+     */
+    public CoalescingFilter(final List<String> coalescedPaths,
+            final long maxSharedBodyBytes) {
+        this.paths = List.copyOf(coalescedPaths);
+        this.maxBodyBytes = maxSharedBodyBytes;
+    }
+
+    /**
+     * Forwards the first GET of a coalesced path and answers the identical
+     * requests arriving meanwhile with its response; forwards any other
+     * request.
+     * @param exchange The current exchange.
+     * @param chain The rest of the filter chain.
+     * @return Completes when the request is handled.
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange,
+            final GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (request.getMethod() != HttpMethod.GET || paths.stream()
+                .noneMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return chain.filter(exchange);
+        }
+        String key = ResponseCacheFilter.keyOf(request);
+        Sinks.One<Optional<BufferedResponse>> sink = Sinks.one();
+        Sinks.One<Optional<BufferedResponse>> shared =
+                inFlight.putIfAbsent(key, sink);
+        if (shared != null) {
+            coalesced.incrementAndGet();
+            return shared.asMono().flatMap(response -> response.isPresent()
+                    ? response.get().writeTo(exchange)
+                    : chain.filter(exchange));
+        }
+        forwarded.incrementAndGet();
+        ServerWebExchange leader = exchange.mutate()
+                .request(upstream -> upstream.headers(
+                        headers -> headers.remove(HttpHeaders.IF_NONE_MATCH)))
+                .response(new SharedResponse(exchange, key, sink))
+                .build();
+        return chain.filter(leader).doFinally(signal -> {
+            inFlight.remove(key, sink);
+            sink.tryEmitValue(Optional.empty());
+        });
+    }
+
+    /**
+     * Getter for the order of the filter.
+     * @return the order.
+     */
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Registers the numbers of forwarded and coalesced requests.
+     * @param registry The registry to bind to.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("gateway.coalescing.requests", forwarded,
+                        AtomicLong::get)
+                .tag("result", "forwarded")
+                .register(registry);
+        FunctionCounter.builder("gateway.coalescing.requests", coalesced,
+                        AtomicLong::get)
+                .tag("result", "coalesced")
+                .register(registry);
+    }
+
+    /**
+     * The response of a forwarded GET: reads the body, hands the response
+     * to the waiting requests and writes it on.
+     */
+    private final class SharedResponse extends ServerHttpResponseDecorator {
+
+        /**
+         * The exchange of the original request.
+         */
+        private final ServerWebExchange exchange;
+
+        /**
+         * The path and query of the request.
+         */
+        private final String key;
+
+        /**
+         * This is use to hand the response to the waiting requests.
+         */
+        private final Sinks.One<Optional<BufferedResponse>> sink;
+
+        /**
+         * Constructs the response.
+         * @param original The exchange of the original request.
+         * @param inFlightKey The path and query of the request.
+         * @param waiters The sink the waiting requests listen to.
+         */
+        SharedResponse(final ServerWebExchange original,
+                final String inFlightKey,
+                final Sinks.One<Optional<BufferedResponse>> waiters) {
+            super(original.getResponse());
+            this.exchange = original;
+            this.key = inFlightKey;
+            this.sink = waiters;
+        }
+
+        /**
+         * Reads the body, shares the response if it is small enough and
+         * writes it on, or 304 when it matches the If-None-Match of the
+         * original request.
+         * @param body The body from the service.
+         * @return Completes when the body is written.
+         */
+        @Override
+        public Mono<Void> writeWith(
+                final Publisher<? extends DataBuffer> body) {
+            if (getHeaders().getContentLength() > maxBodyBytes) {
+                release();
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        if (bytes.length > maxBodyBytes) {
+                            release();
+                            return super.writeWith(Mono.just(
+                                    bufferFactory().wrap(bytes)));
+                        }
+                        BufferedResponse response =
+                                BufferedResponse.capture(getDelegate(), bytes);
+                        inFlight.remove(key, sink);
+                        sink.tryEmitValue(Optional.of(response));
+                        if (response.status().value() == HttpStatus.OK.value()
+                                && BufferedResponse.matches(
+                                        exchange.getRequest().getHeaders(),
+                                        response.etag())) {
+                            getDelegate().setStatusCode(
+                                    HttpStatus.NOT_MODIFIED);
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            return getDelegate().setComplete();
+                        }
+                        return super.writeWith(Mono.just(
+                                bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        /**
+         * Writes a response without a body and shares it.
+         * @return Completes when the response is written.
+         */
+        @Override
+        public Mono<Void> setComplete() {
+            inFlight.remove(key, sink);
+            sink.tryEmitValue(Optional.of(BufferedResponse
+                    .capture(getDelegate(), new byte[0])));
+            return super.setComplete();
+        }
+
+        /**
+         * Lets the waiting requests go to the service on their own.
+         */
+        private void release() {
+            inFlight.remove(key, sink);
+            sink.tryEmitValue(Optional.empty());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.krishna.gateway.filter;
+
+import java.util.Map;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers the request to start a quiz, /exams/{quizId}, with one document
+ * holding the quiz, its category and its questions. The quiz, with its
+ * category, and the questions are fetched from their services in parallel;
+ * the category appears once and the quiz is dropped from every question.
+ * The route needs no service of its own, so its uri is no://op. An error
+ * from either service is answered with the status and body of that
+ * service.
+ */
+public class ExamPayloadGatewayFilterFactory extends
+        AbstractGatewayFilterFactory<ExamPayloadGatewayFilterFactory.Config> {
+
+    /**
+     * The settings of the filter in a route.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * The base URI of the quiz service.
+         */
+        private String quizService = "lb://QUIZ-SERVICE";
+
+        /**
+         * The base URI of the question service.
+         */
+        private String questionService = "lb://QUESTION-SERVICE";
+    }
+
+    /**
+     * The name of the path variable holding the quiz ID.
+     */
+    private static final String QUIZ_ID = "quizId";
+
+    /**
+     * This is use to call the services, resolved through the load balancer.
+     */
+    private final WebClient webClient;
+
+    /**
+     * This is use to read and write the documents.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the factory.
+     * @param client The client calling the services.
+     * @param mapper The mapper reading and writing the documents.
+     */
+    public ExamPayloadGatewayFilterFactory(final WebClient client,
+            final ObjectMapper mapper) {
+        super(Config.class);
+        this.webClient = client;
+        this.objectMapper = mapper;
+    }
+
+    /**
+     * Builds the filter of a route.
+     * @param config The settings of the filter.
+     * @return the filter.
+     */
+    @Override
+    public GatewayFilter apply(final Config config) {
+        return (exchange, chain) -> {
+            Map<String, String> variables =
+                    ServerWebExchangeUtils.getUriTemplateVariables(exchange);
+            String quizId = variables.get(QUIZ_ID);
+            if (quizId == null || !quizId.matches("\\d+")) {
+                exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+                return exchange.getResponse().setComplete();
+            }
+            String user = exchange.getRequest().getHeaders()
+                    .getFirst(JwtAuthenticationFilter.USER_HEADER);
+            Mono<JsonNode> quiz = fetch(
+                    config.getQuizService() + "/quizzes/" + quizId, user);
+            Mono<JsonNode> questions = fetch(config.getQuestionService()
+                    + "/api/questions/byquiz/" + quizId, user);
+            return Mono.zip(quiz, questions)
+                    .map(both -> compact(both.getT1(), both.getT2()))
+                    .flatMap(payload -> Mono.fromCallable(
+                            () -> objectMapper.writeValueAsBytes(payload)))
+                    .flatMap(body -> write(exchange, HttpStatus.OK,
+                            MediaType.APPLICATION_JSON, body))
+                    .onErrorResume(WebClientResponseException.class,
+                            error -> write(exchange, error.getStatusCode(),
+                                    error.getHeaders().getContentType(),
+                                    error.getResponseBodyAsByteArray()));
+        };
+    }
+
+    /**
+     * Reads a document from a service.
+     * @param uri The URI of the document.
+     * @param user The subject of the token of the request, may be null.
+     * @return the document.
+     */
+    private Mono<JsonNode> fetch(final String uri, final String user) {
+        return webClient.get()
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (user != null) {
+                        headers.set(JwtAuthenticationFilter.USER_HEADER, user);
+                    }
+                })
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+    }
+
+    /**
+     * Builds the exam document out of the quiz and its questions.
+     * @param quiz The quiz, with its category.
+     * @param questions The questions of the quiz, each with the quiz.
+     * @return the document with the quiz, category and questions.
+     */
+    private ObjectNode compact(final JsonNode quiz, final JsonNode questions) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        ObjectNode quizNode = quiz.deepCopy();
+        JsonNode category = quizNode.remove("category");
+        payload.set("quiz", quizNode);
+        payload.set("category", category);
+        ArrayNode questionNodes = payload.putArray("questions");
+        for (JsonNode question : questions) {
+            ObjectNode questionNode = question.deepCopy();
+            questionNode.remove("quizDto");
+            questionNode.remove(QUIZ_ID);
+            questionNodes.add(questionNode);
+        }
+        return payload;
+    }
+
+    /**
+     * Writes the response.
+     * @param exchange The current exchange.
+     * @param status The status.
+     * @param contentType The content type, may be null.
+     * @param body The body.
+     * @return Completes when the response is written.
+     */
+    private static Mono<Void> write(final ServerWebExchange exchange,
+            final HttpStatusCode status, final MediaType contentType,
+            final byte[] body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        if (contentType != null) {
+            response.getHeaders().setContentType(contentType);
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(
+                response.bufferFactory().wrap(body)));
+    }
+}
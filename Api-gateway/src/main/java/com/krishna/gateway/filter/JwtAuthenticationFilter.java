@@ -0,0 +1,196 @@
+package com.krishna.gateway.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies the bearer token of every request in the gateway, with the key
+ * the auth service signs its tokens with, and forwards the subject of the
+ * token to the services in the {@link #USER_HEADER} header. Verified tokens
+ * are cached until they expire, so a token is only checked once and the
+ * auth service is never called per request. Requests to the open paths,
+ * such as registration and login, pass without a token.
+ */
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    /**
+     * The header carrying the subject of the verified token to the
+     * services. A value sent by the client is always replaced or removed.
+     */
+    public static final String USER_HEADER = "X-Auth-User";
+
+    /**
+     * The order of the filter; it runs before the routing filters.
+     */
+    public static final int ORDER = -100;
+
+    /**
+     * The prefix of the Authorization header value.
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(JwtAuthenticationFilter.class);
+
+    /**
+     * This is use to verify the signature and expiry of the tokens.
+     */
+    private final JwtParser parser;
+
+    /**
+     * This is use to keep the already verified tokens.
+     */
+    private final VerifiedTokenCache verifiedTokens;
+
+    /**
+     * The path patterns reachable without a token.
+     */
+    private final List<String> openPaths;
+
+    /**
+     * This is use to match the paths against the open path patterns.
+     */
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * Constructs the filter.
+     * @param secret The Base64 encoded key the tokens are signed with.
+     * @param cacheSize The most verified tokens kept.
+     * @param openPathPatterns The path patterns reachable without a token.
+     */
+    public JwtAuthenticationFilter(final String secret, final int cacheSize,
+            final List<String> openPathPatterns) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(cacheSize);
+        this.openPaths = List.copyOf(openPathPatterns);
+    }
+
+    /**
+     * Lets a request with a valid token through with its subject, and
+     * answers any other request to a protected path with 401.
+     * @param exchange The current exchange.
+     * @param chain The rest of the filter chain.
+     * @return Completes when the request is handled.
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange,
+            final GatewayFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (isOpen(path)) {
+            return chain.filter(exchange.mutate()
+                    .request(request -> request.headers(
+                            headers -> headers.remove(USER_HEADER)))
+                    .build());
+        }
+        String subject = authenticate(exchange.getRequest().getHeaders()
+                .getFirst(HttpHeaders.AUTHORIZATION));
+        if (subject == null) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            return response.setComplete();
+        }
+        return chain.filter(exchange.mutate()
+                .request(request -> request.headers(
+                        headers -> headers.set(USER_HEADER, subject)))
+                .build());
+    }
+
+    /**
+     * Getter for the order of the filter.
+     * @return the order.
+     */
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Tells whether a path is reachable without a token.
+     * @param path The request path.
+     * @return True if it matches an open path pattern.
+     */
+    private boolean isOpen(final String path) {
+        for (String pattern : openPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the subject of the bearer token, from the cache or by verifying
+     * the token.
+     * @param authorization The Authorization header, may be null.
+     * @return The subject, or null if the token is missing or invalid.
+     */
+    private String authenticate(final String authorization) {
+        if (authorization == null
+                || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        String tokenHash = hash(token);
+        String subject = verifiedTokens.get(tokenHash,
+                System.currentTimeMillis());
+        if (subject != null) {
+            return subject;
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            subject = claims.getSubject();
+            Date expiration = claims.getExpiration();
+            if (subject != null && expiration != null) {
+                verifiedTokens.put(tokenHash, subject, expiration.getTime());
+            }
+            return subject;
+        } catch (JwtException | IllegalArgumentException exception) {
+            LOGGER.debug("Rejected token: {}", exception.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Hashes a token, so the cache does not hold the tokens themselves.
+     * @param token The token.
+     * @return The Base64 encoded SHA-256 hash of the token.
+     */
+    private static String hash(final String token) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
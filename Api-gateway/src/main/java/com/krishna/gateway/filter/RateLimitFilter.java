@@ -0,0 +1,213 @@
+package com.krishna.gateway.filter;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.krishna.gateway.configuration.RateLimitProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Limits the requests to the configured routes with a token bucket per
+ * route and caller. The caller is the subject of the verified token, or
+ * the client address for the open paths such as login. When the gateway
+ * does not verify tokens, a {@link JwtAuthenticationFilter#USER_HEADER}
+ * header could only come from the client, so every caller is keyed by its
+ * address. A request finding the bucket empty is answered with 429 and
+ * Retry-After, in seconds, and is not forwarded; an allowed one carries
+ * {@link #REMAINING_HEADER}. The buckets live in the gateway, so each
+ * gateway instance applies the limits on its own.
+ */
+public class RateLimitFilter implements GlobalFilter, Ordered, MeterBinder {
+
+    /**
+     * The header telling how many more requests are allowed right now.
+     */
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    /**
+     * The order of the filter; it runs after authentication, so the user
+     * is known, and before the response cache.
+     */
+    public static final int ORDER = JwtAuthenticationFilter.ORDER + 10;
+
+    /**
+     * A limited route and its request counts.
+     * @param route The limit of the route.
+     * @param periodNanos The refill period of the route in nanoseconds.
+     * @param allowed The number of allowed requests.
+     * @param rejected The number of rejected requests.
+     */
+    private record Limit(RateLimitProperties.Route route, long periodNanos,
+            AtomicLong allowed, AtomicLong rejected) {
+    }
+
+    /**
+     * The limited routes, in the configured order.
+     */
+    private final List<Limit> limits;
+
+    /**
+     * This is use to keep the buckets.
+     */
+    private final TokenBucketStore buckets;
+
+    /**
+     * This is use to match the paths against the route patterns.
+     */
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * Whether the gateway verifies tokens, i.e. whether the user header can
+     * be trusted.
+     */
+    private final boolean authEnabled;
+
+    /**
+     * Constructs the filter.
+     * @param properties The limited routes and the number of buckets kept.
+     * @param verifiesTokens Whether the gateway verifies tokens and sets the
+     *        user header itself.
+     * @throws IllegalArgumentException If a route has no capacity or no
+     *         period.
+     */
+    public RateLimitFilter(final RateLimitProperties properties,
+            final boolean verifiesTokens) {
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getCapacity() < 1 || route.getPeriod() == null
+                    || route.getPeriod().isZero()
+                    || route.getPeriod().isNegative()) {
+                throw new IllegalArgumentException("Rate limit of "
+                        + route.getPath() + " needs a positive capacity "
+                        + "and period");
+            }
+        }
+        this.limits = properties.getRoutes().stream()
+                .map(route -> new Limit(route, route.getPeriod().toNanos(),
+                        new AtomicLong(), new AtomicLong()))
+                .toList();
+        this.buckets = new TokenBucketStore(properties.getMaxKeys());
+        this.authEnabled = verifiesTokens;
+    }
+
+    /**
+     * Takes a token for a request to a limited route, and answers 429 when
+     * there is none; forwards any other request.
+     * @param exchange The current exchange.
+     * @param chain The rest of the filter chain.
+     * @return Completes when the request is handled.
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange,
+            final GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Limit limit = limitOf(request);
+        if (limit == null) {
+            return chain.filter(exchange);
+        }
+        TokenBucketStore.Decision decision = buckets.tryAcquire(
+                limit.route().getPath() + " " + callerOf(request),
+                limit.route().getCapacity(), limit.periodNanos(),
+                System.nanoTime());
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(REMAINING_HEADER,
+                String.valueOf(decision.remaining()));
+        if (decision.allowed()) {
+            limit.allowed().incrementAndGet();
+            return chain.filter(exchange);
+        }
+        limit.rejected().incrementAndGet();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                decision.retryAfterNanos() + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(retryAfter));
+        return response.setComplete();
+    }
+
+    /**
+     * Getter for the order of the filter.
+     * @return the order.
+     */
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Registers the allowed and rejected requests of every limited route,
+     * and the number of buckets.
+     * @param registry The registry to bind to.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("gateway.ratelimit.buckets", buckets,
+                        TokenBucketStore::size)
+                .description("Token buckets kept by the gateway")
+                .register(registry);
+        for (Limit limit : limits) {
+            FunctionCounter.builder("gateway.ratelimit.requests",
+                            limit.allowed(), AtomicLong::get)
+                    .tag("route", limit.route().getPath())
+                    .tag("result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("gateway.ratelimit.requests",
+                            limit.rejected(), AtomicLong::get)
+                    .tag("route", limit.route().getPath())
+                    .tag("result", "rejected")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Finds the limit of a request.
+     * @param request The request.
+     * @return The first matching limit, or null if none matches.
+     */
+    private Limit limitOf(final ServerHttpRequest request) {
+        String path = request.getPath().value();
+        String method = request.getMethod().name();
+        for (Limit limit : limits) {
+            RateLimitProperties.Route route = limit.route();
+            if ((route.getMethods().isEmpty() || route.getMethods().stream()
+                    .anyMatch(method::equalsIgnoreCase))
+                    && pathMatcher.match(route.getPath(), path)) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Names the caller of a request.
+     * @param request The request.
+     * @return The subject of the verified token, or the client address when
+     *         there is none or tokens are not verified.
+     */
+    private String callerOf(final ServerHttpRequest request) {
+        String user = authEnabled ? request.getHeaders()
+                .getFirst(JwtAuthenticationFilter.USER_HEADER) : null;
+        if (user != null) {
+            return "user:" + user;
+        }
+        InetSocketAddress address = request.getRemoteAddress();
+        return "ip:" + (address == null || address.getAddress() == null
+                ? "unknown" : address.getAddress().getHostAddress());
+    }
+}
@@ -0,0 +1,325 @@
+package com.krishna.gateway.filter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.krishna.gateway.configuration.ResponseCacheProperties;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves repeated GET requests of the configured routes from the gateway.
+ * A successful response is kept for the TTL of its route, or for the
+ * max-age sent by the service if shorter, and not at all if the service
+ * marks it no-store, no-cache or private. Cached responses are replayed
+ * with their ETag, and a matching If-None-Match is answered with 304. A
+ * successful write to a path that invalidates a route drops the responses
+ * cached for that route.
+ */
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    /**
+     * The header telling whether the response came from the cache.
+     */
+    public static final String CACHE_HEADER = BufferedResponse.CACHE_HEADER;
+
+    /**
+     * The order of the filter; it runs after authentication and before the
+     * response is written.
+     */
+    public static final int ORDER = JwtAuthenticationFilter.ORDER + 50;
+
+    /**
+     * The methods whose successful requests invalidate cached routes.
+     */
+    private static final List<HttpMethod> WRITE_METHODS = List.of(
+            HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH,
+            HttpMethod.DELETE);
+
+    /**
+     * This is use to keep the responses.
+     */
+    private final ResponseCacheStore store;
+
+    /**
+     * The cached routes and the size limits.
+     */
+    private final ResponseCacheProperties properties;
+
+    /**
+     * This is use to match the paths against the route patterns.
+     */
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * Constructs the filter.
+     * @param responseStore The store keeping the responses.
+     * @param cacheProperties The cached routes and the size limits.
+     */
+    public ResponseCacheFilter(final ResponseCacheStore responseStore,
+            final ResponseCacheProperties cacheProperties) {
+        this.store = responseStore;
+        this.properties = cacheProperties;
+    }
+
+    /**
+     * Answers a GET of a cached route from the cache, or forwards it and
+     * keeps the response; forwards any other request, dropping the routes
+     * it invalidates once it succeeds.
+     * @param exchange The current exchange.
+     * @param chain The rest of the filter chain.
+     * @return Completes when the request is handled.
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange,
+            final GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            return chain.filter(exchange)
+                    .then(Mono.fromRunnable(() -> invalidate(exchange, path)));
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        ResponseCacheProperties.Route route = routeOf(path);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        String key = keyOf(request);
+        if (!hasDirective(request.getHeaders(), "no-cache")) {
+            ResponseCacheStore.Entry cached =
+                    store.get(key, System.currentTimeMillis());
+            if (cached != null) {
+                return replay(exchange, cached);
+            }
+        }
+        ServerWebExchange forwarded = exchange.mutate()
+                .request(upstream -> upstream.headers(
+                        headers -> headers.remove(HttpHeaders.IF_NONE_MATCH)))
+                .response(new CachingResponse(exchange, route, key))
+                .build();
+        return chain.filter(forwarded);
+    }
+
+    /**
+     * Getter for the order of the filter.
+     * @return the order.
+     */
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Builds the cache key of a request.
+     * @param request The request.
+     * @return The path and the raw query.
+     */
+    static String keyOf(final ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getPath().value();
+        return query == null ? path : path + "?" + query;
+    }
+
+    /**
+     * Finds the cached route of a path.
+     * @param path The request path.
+     * @return The first matching route, or null if none matches.
+     */
+    ResponseCacheProperties.Route routeOf(final String path) {
+        for (ResponseCacheProperties.Route route : properties.getRoutes()) {
+            if (pathMatcher.match(route.getPath(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops the responses of the routes a successful write invalidates.
+     * @param exchange The exchange of the write.
+     * @param path The path of the write.
+     */
+    private void invalidate(final ServerWebExchange exchange,
+            final String path) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status == null || !status.is2xxSuccessful()) {
+            return;
+        }
+        for (ResponseCacheProperties.Route route : properties.getRoutes()) {
+            List<String> patterns = route.getInvalidatedBy().isEmpty()
+                    ? List.of(route.getPath())
+                    : route.getInvalidatedBy();
+            if (patterns.stream().anyMatch(
+                    pattern -> pathMatcher.match(pattern, path))) {
+                store.purgeRoute(route.getPath());
+            }
+        }
+    }
+
+    /**
+     * Writes a cached response, or 304 when it matches If-None-Match.
+     * @param exchange The current exchange.
+     * @param cached The cached response.
+     * @return Completes when the response is written.
+     */
+    private static Mono<Void> replay(final ServerWebExchange exchange,
+            final ResponseCacheStore.Entry cached) {
+        exchange.getResponse().getHeaders().set(CACHE_HEADER, "HIT");
+        return cached.response().writeTo(exchange);
+    }
+
+    /**
+     * Works out how long a response may be kept.
+     * @param headers The response headers.
+     * @param route The route of the request.
+     * @return The time to keep it, zero if it must not be cached.
+     */
+    private static Duration ttlOf(final HttpHeaders headers,
+            final ResponseCacheProperties.Route route) {
+        if (hasDirective(headers, "no-store")
+                || hasDirective(headers, "no-cache")
+                || hasDirective(headers, "private")
+                || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return Duration.ZERO;
+        }
+        Duration ttl = route.getTtl();
+        for (String directive : directives(headers)) {
+            if (directive.startsWith("s-maxage=")
+                    || directive.startsWith("max-age=")) {
+                try {
+                    Duration maxAge = Duration.ofSeconds(Long.parseLong(
+                            directive.substring(directive.indexOf('=') + 1)));
+                    if (maxAge.compareTo(ttl) < 0) {
+                        ttl = maxAge;
+                    }
+                } catch (NumberFormatException exception) {
+                    return Duration.ZERO;
+                }
+            }
+        }
+        return ttl;
+    }
+
+    /**
+     * Tells whether Cache-Control carries a directive.
+     * @param headers The headers.
+     * @param name The directive.
+     * @return True if present.
+     */
+    private static boolean hasDirective(final HttpHeaders headers,
+            final String name) {
+        return directives(headers).contains(name);
+    }
+
+    /**
+     * Splits the Cache-Control headers into their directives.
+     * @param headers The headers.
+     * @return The directives, in lower case and trimmed.
+     */
+    private static List<String> directives(final HttpHeaders headers) {
+        return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).stream()
+                .flatMap(value -> List.of(value.split(",")).stream())
+                .map(directive -> directive.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * The response of a forwarded GET: reads the body of a successful
+     * response into the cache before writing it on.
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        /**
+         * The exchange of the original request.
+         */
+        private final ServerWebExchange exchange;
+
+        /**
+         * The route of the request.
+         */
+        private final ResponseCacheProperties.Route route;
+
+        /**
+         * The cache key of the request.
+         */
+        private final String key;
+
+        /**
+         * Constructs the response.
+         * @param original The exchange of the original request.
+         * @param cacheRoute The route of the request.
+         * @param cacheKey The cache key of the request.
+         */
+        CachingResponse(final ServerWebExchange original,
+                final ResponseCacheProperties.Route cacheRoute,
+                final String cacheKey) {
+            super(original.getResponse());
+            this.exchange = original;
+            this.route = cacheRoute;
+            this.key = cacheKey;
+        }
+
+        /**
+         * Keeps the body of a cacheable response and writes it on.
+         * @param body The body from the service.
+         * @return Completes when the body is written.
+         */
+        @Override
+        public Mono<Void> writeWith(
+                final Publisher<? extends DataBuffer> body) {
+            getHeaders().set(CACHE_HEADER, "MISS");
+            HttpStatusCode status = getStatusCode();
+            Duration ttl = ttlOf(getHeaders(), route);
+            if (status == null || status.value() != HttpStatus.OK.value()
+                    || ttl.isZero() || ttl.isNegative()
+                    || getHeaders().getContentLength()
+                            > properties.getMaxBodyBytes()) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        if (bytes.length > properties.getMaxBodyBytes()) {
+                            return super.writeWith(Mono.just(
+                                    bufferFactory().wrap(bytes)));
+                        }
+                        BufferedResponse response =
+                                BufferedResponse.capture(getDelegate(), bytes);
+                        store.put(key, new ResponseCacheStore.Entry(
+                                route.getPath(), response,
+                                System.currentTimeMillis() + ttl.toMillis()));
+                        if (BufferedResponse.matches(
+                                exchange.getRequest().getHeaders(),
+                                response.etag())) {
+                            getDelegate().setStatusCode(
+                                    HttpStatus.NOT_MODIFIED);
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            return getDelegate().setComplete();
+                        }
+                        return super.writeWith(Mono.just(
+                                bufferFactory().wrap(bytes)));
+                    });
+        }
+    }
+}
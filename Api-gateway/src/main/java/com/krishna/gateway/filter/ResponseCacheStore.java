@@ -0,0 +1,235 @@
+package com.krishna.gateway.filter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The responses cached by the gateway, keyed by path and query. The least
+ * recently used responses are dropped once there are more than the maximum
+ * number of them or they exceed the byte budget, and expired ones when they
+ * are next looked up. Each response is charged for its key and headers as
+ * well as its body, so small bodies under many distinct query strings are
+ * bounded too.
+ */
+public class ResponseCacheStore implements MeterBinder {
+
+    /**
+     * A cached response.
+     * @param route The path pattern of the route it was cached for.
+     * @param response The response.
+     * @param expiresAt When the response expires, in epoch milliseconds.
+     */
+    record Entry(String route, BufferedResponse response, long expiresAt) {
+
+        /**
+         * Getter for the size of the body.
+         * @return the bytes of the body.
+         */
+        int bodyBytes() {
+            return response.body().length;
+        }
+    }
+
+    /**
+     * The bytes charged for each response on top of its key, headers and
+     * body, for the map entry and the objects holding it.
+     */
+    private static final long ENTRY_OVERHEAD = 256;
+
+    /**
+     * The cached responses in access order.
+     */
+    private final LinkedHashMap<String, Entry> entries =
+            new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * The most bytes of responses kept in total.
+     */
+    private final long maxBytes;
+
+    /**
+     * The most responses kept.
+     */
+    private final int maxEntries;
+
+    /**
+     * The bytes charged for the responses kept now.
+     */
+    private long bytes;
+
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of lookups not answered from the cache.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs a store.
+     * @param maxTotalBytes The most bytes of responses kept in total.
+     * @param maxResponses The most responses kept.
+     */
+    public ResponseCacheStore(final long maxTotalBytes,
+            final int maxResponses) {
+        this.maxBytes = maxTotalBytes;
+        this.maxEntries = maxResponses;
+    }
+
+    /**
+     * Looks a response up.
+     * @param key The path and query of the request.
+     * @param now The current time, in epoch milliseconds.
+     * @return The response, or null if it is not cached or has expired.
+     */
+    synchronized Entry get(final String key, final long now) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() <= now) {
+            remove(key);
+            entry = null;
+        }
+        (entry == null ? misses : hits).incrementAndGet();
+        return entry;
+    }
+
+    /**
+     * Keeps a response, dropping the least recently used ones while there
+     * are too many or they exceed the byte budget.
+     * @param key The path and query of the request.
+     * @param entry The response.
+     */
+    synchronized void put(final String key, final Entry entry) {
+        remove(key);
+        entries.put(key, entry);
+        bytes += sizeOf(key, entry);
+        Iterator<Map.Entry<String, Entry>> eldest =
+                entries.entrySet().iterator();
+        while ((bytes > maxBytes || entries.size() > maxEntries)
+                && eldest.hasNext()) {
+            Map.Entry<String, Entry> next = eldest.next();
+            bytes -= sizeOf(next.getKey(), next.getValue());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drops the responses whose path starts with a prefix.
+     * @param pathPrefix The prefix; every response when empty.
+     * @return The number of dropped responses.
+     */
+    public int purge(final String pathPrefix) {
+        return purgeIf(key -> key.startsWith(pathPrefix), entry -> true);
+    }
+
+    /**
+     * Drops the responses cached for a route.
+     * @param route The path pattern of the route.
+     * @return The number of dropped responses.
+     */
+    public int purgeRoute(final String route) {
+        return purgeIf(key -> true, entry -> entry.route().equals(route));
+    }
+
+    /**
+     * Getter for the number of cached responses.
+     * @return the number of responses.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Getter for the bytes charged for the cached responses.
+     * @return the bytes.
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Registers the size, bytes, hits and misses of the cache.
+     * @param registry The registry to bind to.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("gateway.cache.size", this, ResponseCacheStore::size)
+                .description("Responses in the gateway cache")
+                .register(registry);
+        Gauge.builder("gateway.cache.bytes", this, ResponseCacheStore::bytes)
+                .description("Bytes of the responses in the gateway cache")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("gateway.cache.requests", hits,
+                        AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("gateway.cache.requests", misses,
+                        AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    /**
+     * Drops the responses matching both predicates.
+     * @param keyFilter The predicate on the key.
+     * @param entryFilter The predicate on the response.
+     * @return The number of dropped responses.
+     */
+    private synchronized int purgeIf(final Predicate<String> keyFilter,
+            final Predicate<Entry> entryFilter) {
+        int purged = 0;
+        Iterator<Map.Entry<String, Entry>> iterator =
+                entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> next = iterator.next();
+            if (keyFilter.test(next.getKey())
+                    && entryFilter.test(next.getValue())) {
+                bytes -= sizeOf(next.getKey(), next.getValue());
+                iterator.remove();
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * Drops one response.
+     * @param key The path and query of the request.
+     */
+    private void remove(final String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= sizeOf(key, removed);
+        }
+    }
+
+    /**
+     * Estimates the memory held by a response: its key and header text,
+     * two bytes per character, its body and a fixed overhead.
+     * @param key The path and query of the request.
+     * @param entry The response.
+     * @return the bytes charged for the response.
+     */
+    private static long sizeOf(final String key, final Entry entry) {
+        long size = ENTRY_OVERHEAD + 2L * key.length() + entry.bodyBytes();
+        for (Map.Entry<String, List<String>> header
+                : entry.response().headers().entrySet()) {
+            size += 2L * header.getKey().length();
+            for (String value : header.getValue()) {
+                size += 2L * value.length();
+            }
+        }
+        return size;
+    }
+}
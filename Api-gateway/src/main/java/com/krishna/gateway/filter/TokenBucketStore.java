@@ -0,0 +1,125 @@
+package com.krishna.gateway.filter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets by key, updated without locks. A bucket is kept as the
+ * {@link System#nanoTime()} at which it is full again: taking a token moves
+ * that time one refill interval later, and a token can be taken as long as
+ * the bucket would be full again within one period. This holds the same
+ * state as a token count and its last refill, in a single
+ * {@link AtomicLong}. Once there is no room for another bucket within the
+ * maximum number of keys, buckets are dropped until a tenth of the room is
+ * free again: the full ones first, as they are the same as missing ones,
+ * then those that would be full the soonest, which hold the fewest taken
+ * tokens and are usually the least recently used. A dropped bucket comes
+ * back full.
+ */
+final class TokenBucketStore {
+
+    /**
+     * The outcome of taking a token.
+     * @param allowed Whether a token was taken.
+     * @param remaining The tokens left in the bucket.
+     * @param retryAfterNanos The time until a token is available, zero if
+     *        one was taken.
+     */
+    record Decision(boolean allowed, long remaining, long retryAfterNanos) {
+    }
+
+    /**
+     * The time each bucket is full again, by key.
+     */
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The most buckets kept.
+     */
+    private final int maxKeys;
+
+    /**
+     * The number of buckets kept after a sweep.
+     */
+    private final int sweptKeys;
+
+    /**
+     * Whether a sweep is running; only one runs at a time.
+     */
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    /**
+     * Constructs a store.
+     * @param maxBuckets The most buckets kept.
+     */
+    TokenBucketStore(final int maxBuckets) {
+        this.maxKeys = maxBuckets;
+        this.sweptKeys = maxBuckets - maxBuckets / 10;
+    }
+
+    /**
+     * Takes a token from a bucket, creating it full if missing.
+     * @param key The key of the bucket.
+     * @param capacity The size of the bucket.
+     * @param periodNanos The time in which an empty bucket fills up.
+     * @param now The current {@link System#nanoTime()}.
+     * @return whether a token was taken, and what is left.
+     */
+    Decision tryAcquire(final String key, final int capacity,
+            final long periodNanos, final long now) {
+        sweepIfTooMany(now);
+        long interval = Math.max(periodNanos / capacity, 1);
+        long window = interval * capacity;
+        AtomicLong fullAt = buckets.computeIfAbsent(key,
+                missing -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            long debt = next - now;
+            if (debt > window) {
+                return new Decision(false, 0, debt - window);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, (window - debt) / interval, 0);
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of buckets.
+     * @return the number of buckets.
+     */
+    int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Drops buckets when there is no room for another, the full ones first
+     * and then those that would be full the soonest, until a tenth of the
+     * room is free again.
+     * @param now The current {@link System#nanoTime()}.
+     */
+    private void sweepIfTooMany(final long now) {
+        if (buckets.size() < maxKeys || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+            int excess = buckets.size() - sweptKeys;
+            if (excess <= 0) {
+                return;
+            }
+            long[] debts = buckets.values().stream()
+                    .mapToLong(fullAt -> fullAt.get() - now)
+                    .toArray();
+            Arrays.sort(debts);
+            long cutoff = debts[Math.min(excess, debts.length) - 1];
+            buckets.values().removeIf(fullAt -> fullAt.get() - now <= cutoff);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
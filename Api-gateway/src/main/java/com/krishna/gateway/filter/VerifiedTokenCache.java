@@ -0,0 +1,69 @@
+package com.krishna.gateway.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The subjects of tokens whose signature has already been verified, keyed by
+ * the hash of the token and kept until the token expires. The least
+ * recently used entry is dropped once the cache is full.
+ */
+final class VerifiedTokenCache {
+
+    /**
+     * A verified token.
+     * @param subject The subject of the token.
+     * @param expiresAt The expiry of the token, in epoch milliseconds.
+     */
+    private record Entry(String subject, long expiresAt) {
+    }
+
+    /**
+     * The entries in access order.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * Constructs a cache.
+     * @param maxSize The most tokens kept.
+     */
+    VerifiedTokenCache(final int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Looks a token up.
+     * @param tokenHash The hash of the token.
+     * @param now The current time, in epoch milliseconds.
+     * @return The subject of the token, or null if it is not cached or has
+     *         expired.
+     */
+    synchronized String get(final String tokenHash, final long now) {
+        Entry entry = entries.get(tokenHash);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= now) {
+            entries.remove(tokenHash);
+            return null;
+        }
+        return entry.subject();
+    }
+
+    /**
+     * Keeps a verified token.
+     * @param tokenHash The hash of the token.
+     * @param subject The subject of the token.
+     * @param expiresAt The expiry of the token, in epoch milliseconds.
+     */
+    synchronized void put(final String tokenHash, final String subject,
+            final long expiresAt) {
+        entries.put(tokenHash, new Entry(subject, expiresAt));
+    }
+}
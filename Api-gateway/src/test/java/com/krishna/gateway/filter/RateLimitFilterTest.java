@@ -0,0 +1,97 @@
+package com.krishna.gateway.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.krishna.gateway.configuration.RateLimitProperties;
+
+import reactor.core.publisher.Mono;
+
+class RateLimitFilterTest {
+
+	private static RateLimitProperties properties() {
+		RateLimitProperties.Route route = new RateLimitProperties.Route();
+		route.setPath("/users/login");
+		route.setMethods(List.of("POST"));
+		route.setCapacity(2);
+		route.setPeriod(Duration.ofMinutes(1));
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setRoutes(List.of(route));
+		return properties;
+	}
+
+	private static MockServerWebExchange login(final String address,
+			final String user) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest
+				.post("/users/login")
+				.remoteAddress(new InetSocketAddress(address, 40000));
+		if (user != null) {
+			request.header(JwtAuthenticationFilter.USER_HEADER, user);
+		}
+		return MockServerWebExchange.from(request);
+	}
+
+	private static MockServerWebExchange send(final RateLimitFilter filter,
+			final MockServerWebExchange exchange) {
+		filter.filter(exchange, forwarded -> Mono.empty()).block();
+		return exchange;
+	}
+
+	@Test
+	void answersTooManyRequestsWithRetryAfter() {
+		RateLimitFilter filter = new RateLimitFilter(properties(), true);
+		MockServerWebExchange first = send(filter, login("10.0.0.1", null));
+		assertNull(first.getResponse().getStatusCode());
+		assertEquals("1", first.getResponse().getHeaders()
+				.getFirst(RateLimitFilter.REMAINING_HEADER));
+		send(filter, login("10.0.0.1", null));
+		MockServerWebExchange rejected =
+				send(filter, login("10.0.0.1", null));
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+				rejected.getResponse().getStatusCode());
+		assertEquals("30", rejected.getResponse().getHeaders()
+				.getFirst(HttpHeaders.RETRY_AFTER));
+	}
+
+	@Test
+	void leavesOtherRoutesAlone() {
+		RateLimitFilter filter = new RateLimitFilter(properties(), true);
+		for (int sent = 0; sent < 5; sent++) {
+			MockServerWebExchange exchange = send(filter,
+					MockServerWebExchange.from(
+							MockServerHttpRequest.get("/users/login")));
+			assertNull(exchange.getResponse().getStatusCode());
+		}
+	}
+
+	@Test
+	void ignoresTheUserHeaderWhenTokensAreNotVerified() {
+		RateLimitFilter filter = new RateLimitFilter(properties(), false);
+		send(filter, login("10.0.0.2", "a@example.com"));
+		send(filter, login("10.0.0.2", "b@example.com"));
+		MockServerWebExchange rejected =
+				send(filter, login("10.0.0.2", "c@example.com"));
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+				rejected.getResponse().getStatusCode());
+	}
+
+	@Test
+	void keysByUserWhenTokensAreVerified() {
+		RateLimitFilter filter = new RateLimitFilter(properties(), true);
+		send(filter, login("10.0.0.3", "a@example.com"));
+		send(filter, login("10.0.0.3", "a@example.com"));
+		MockServerWebExchange other =
+				send(filter, login("10.0.0.3", "b@example.com"));
+		assertNull(other.getResponse().getStatusCode());
+	}
+}
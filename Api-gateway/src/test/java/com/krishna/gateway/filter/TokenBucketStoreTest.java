@@ -0,0 +1,75 @@
+package com.krishna.gateway.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketStoreTest {
+
+	private static final long PERIOD = TimeUnit.MINUTES.toNanos(1);
+
+	private static final long INTERVAL = PERIOD / 5;
+
+	@Test
+	void allowsTheCapacityThenRejects() {
+		TokenBucketStore store = new TokenBucketStore(100);
+		long now = 1_000;
+		for (int taken = 1; taken <= 5; taken++) {
+			TokenBucketStore.Decision decision =
+					store.tryAcquire("key", 5, PERIOD, now);
+			assertTrue(decision.allowed());
+			assertEquals(5 - taken, decision.remaining());
+		}
+		TokenBucketStore.Decision rejected =
+				store.tryAcquire("key", 5, PERIOD, now);
+		assertFalse(rejected.allowed());
+		assertEquals(0, rejected.remaining());
+		assertEquals(INTERVAL, rejected.retryAfterNanos());
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		TokenBucketStore store = new TokenBucketStore(100);
+		long now = 1_000;
+		for (int taken = 0; taken < 5; taken++) {
+			store.tryAcquire("key", 5, PERIOD, now);
+		}
+		TokenBucketStore.Decision early =
+				store.tryAcquire("key", 5, PERIOD, now + INTERVAL - 1);
+		assertFalse(early.allowed());
+		assertEquals(1, early.retryAfterNanos());
+		assertTrue(store.tryAcquire("key", 5, PERIOD, now + INTERVAL)
+				.allowed());
+		assertFalse(store.tryAcquire("key", 5, PERIOD, now + INTERVAL)
+				.allowed());
+		TokenBucketStore.Decision full =
+				store.tryAcquire("key", 5, PERIOD, now + 3 * PERIOD);
+		assertTrue(full.allowed());
+		assertEquals(4, full.remaining());
+	}
+
+	@Test
+	void keepsBucketsApart() {
+		TokenBucketStore store = new TokenBucketStore(100);
+		assertTrue(store.tryAcquire("a", 1, PERIOD, 0).allowed());
+		assertFalse(store.tryAcquire("a", 1, PERIOD, 0).allowed());
+		assertTrue(store.tryAcquire("b", 1, PERIOD, 0).allowed());
+	}
+
+	@Test
+	void dropsBucketsBeyondTheMaximumEvenWhenNotFull() {
+		TokenBucketStore store = new TokenBucketStore(10);
+		for (int taken = 0; taken < 5; taken++) {
+			store.tryAcquire("busy", 5, PERIOD, 0);
+		}
+		for (int key = 1; key <= 50; key++) {
+			store.tryAcquire("key" + key, 5, PERIOD, key);
+			assertTrue(store.size() <= 10);
+		}
+		assertFalse(store.tryAcquire("busy", 5, PERIOD, 51).allowed());
+	}
+}
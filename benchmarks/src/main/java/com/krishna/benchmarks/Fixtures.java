@@ -0,0 +1,73 @@
+package com.krishna.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * Wiring helpers for the benchmarks. Services are created without a Spring
+ * context, so their autowired fields are set here and remote clients are
+ * replaced by in-memory stubs.
+ */
+final class Fixtures {
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private Fixtures() {
+    }
+
+    /**
+     * Sets a field of an object, the way autowiring would.
+     * @param target The object to set the field on.
+     * @param fieldName The name of the field.
+     * @param value The value to set.
+     */
+    static void inject(final Object target, final String fieldName,
+            final Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Creates a stub of an interface, such as a Feign client or a
+     * repository. Every method call is answered by the given function,
+     * which receives the method name and arguments; object methods are
+     * answered by the stub itself.
+     * @param type The interface to stub.
+     * @param answer Computes the result of a call.
+     * @param <T> The type of the interface.
+     * @return The stub.
+     */
+    static <T> T stub(final Class<T> type,
+            final Function<Invocation, Object> answer) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] {type}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return type.getSimpleName() + " stub";
+                    default:
+                        return answer.apply(new Invocation(method.getName(),
+                                args == null ? new Object[0] : args));
+                    }
+                });
+        return type.cast(stub);
+    }
+
+    /**
+     * A call made on a stub.
+     * @param method The name of the called method.
+     * @param args The arguments of the call.
+     */
+    record Invocation(String method, Object[] args) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.krishna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.krishna.auth.service.JwtService;
+
+/**
+ * Measures token issue and verification of the auth service. Every login
+ * pays for generateToken and every validate call for validateToken.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    /**
+     * The service under test.
+     */
+    private final JwtService jwtService = new JwtService();
+
+    /**
+     * A valid token, issued at setup. Tokens live 30 minutes, well beyond
+     * the length of a run.
+     */
+    private String token;
+
+    /**
+     * Issues the token validated by {@link #validateToken()}.
+     */
+    @Setup
+    public void setUp() {
+        token = jwtService.generateToken("student@nucleusteq.com");
+    }
+
+    /**
+     * Issues a token.
+     * @return The token.
+     */
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("student@nucleusteq.com");
+    }
+
+    /**
+     * Parses and verifies a token.
+     * @return The verified token.
+     */
+    @Benchmark
+    public String validateToken() {
+        jwtService.validateToken(token);
+        return token;
+    }
+}
@@ -0,0 +1,218 @@
+package com.krishna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.krishna.category.entity.Category;
+import com.krishna.category.mapper.CategoryMapper;
+import com.krishna.quiz.dto.CategoryDto;
+import com.krishna.quiz.dto.QuizDto;
+import com.krishna.quiz.entity.Quiz;
+import com.krishna.quiz.mapper.QuizMapper;
+import com.krishna.report.dto.ReportDto;
+import com.krishna.report.entity.Report;
+import com.krishna.report.mapper.ReportMapper;
+
+/**
+ * Compares the hand-written quiz, category and report mappers with the
+ * ModelMapper calls they replaced. Each pair maps the same object, so the
+ * scores can be read side by side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    /**
+     * The ModelMapper path, configured as the services used to.
+     */
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    /**
+     * The hand-written quiz mapper.
+     */
+    private final QuizMapper quizMapper = new QuizMapper();
+
+    /**
+     * The hand-written category mapper.
+     */
+    private final CategoryMapper categoryMapper = new CategoryMapper();
+
+    /**
+     * The hand-written report mapper.
+     */
+    private final ReportMapper reportMapper = new ReportMapper();
+
+    /**
+     * A quiz with its category attached.
+     */
+    private Quiz quiz;
+
+    /**
+     * The quizDto of {@link #quiz}.
+     */
+    private QuizDto quizDto;
+
+    /**
+     * A category entity.
+     */
+    private Category category;
+
+    /**
+     * The categoryDto of {@link #category}.
+     */
+    private com.krishna.category.dto.CategoryDto categoryDto;
+
+    /**
+     * A submitted reportDto.
+     */
+    private ReportDto reportDto;
+
+    /**
+     * Builds the mapped objects and lets ModelMapper create its type maps
+     * before measuring.
+     */
+    @Setup
+    public void setUp() {
+        CategoryDto quizCategory = new CategoryDto(3010, "Java",
+                "Core Java and the JVM");
+        quiz = new Quiz();
+        quiz.setQuizId(4010);
+        quiz.setCategoryId(3010);
+        quiz.setQuizName("Collections");
+        quiz.setQuizDescription("Lists, sets and maps");
+        quiz.setTimeInMinutes(30);
+        quiz.setEnabled(true);
+        quiz.setCategory(quizCategory);
+        quizDto = quizMapper.toDto(quiz);
+
+        category = new Category();
+        category.setCategoryId(3010);
+        category.setCategoryName("Java");
+        category.setDescription("Core Java and the JVM");
+        category.setEnabled(true);
+        categoryDto = categoryMapper.toDto(category);
+
+        reportDto = new ReportDto();
+        reportDto.setReportId(6010);
+        reportDto.setUserEmailId("student@example.com");
+        reportDto.setQuizId(4010);
+        reportDto.setTotalMarks(20);
+        reportDto.setMarksObtained(14);
+        reportDto.setWrongAnswers(3);
+        reportDto.setTotalQuestions(20);
+        reportDto.setAttemptedQuestions(17);
+        reportDto.setDateAndTime("2024-01-15 10:30");
+
+        modelMapper.map(quiz, QuizDto.class);
+        modelMapper.map(quizDto, Quiz.class);
+        modelMapper.map(category, com.krishna.category.dto.CategoryDto.class);
+        modelMapper.map(categoryDto, Category.class);
+        modelMapper.map(reportDto, Report.class);
+    }
+
+    /**
+     * Quiz to quizDto through ModelMapper.
+     * @return the mapped quizDto.
+     */
+    @Benchmark
+    public QuizDto quizToDtoModelMapper() {
+        return modelMapper.map(quiz, QuizDto.class);
+    }
+
+    /**
+     * Quiz to quizDto through the hand-written mapper.
+     * @return the mapped quizDto.
+     */
+    @Benchmark
+    public QuizDto quizToDtoMapper() {
+        return quizMapper.toDto(quiz);
+    }
+
+    /**
+     * QuizDto to quiz through ModelMapper.
+     * @return the mapped quiz.
+     */
+    @Benchmark
+    public Quiz quizToEntityModelMapper() {
+        return modelMapper.map(quizDto, Quiz.class);
+    }
+
+    /**
+     * QuizDto to quiz through the hand-written mapper.
+     * @return the mapped quiz.
+     */
+    @Benchmark
+    public Quiz quizToEntityMapper() {
+        return quizMapper.toEntity(quizDto);
+    }
+
+    /**
+     * Category to categoryDto through ModelMapper.
+     * @return the mapped categoryDto.
+     */
+    @Benchmark
+    public com.krishna.category.dto.CategoryDto categoryToDtoModelMapper() {
+        return modelMapper.map(category,
+                com.krishna.category.dto.CategoryDto.class);
+    }
+
+    /**
+     * Category to categoryDto through the hand-written mapper.
+     * @return the mapped categoryDto.
+     */
+    @Benchmark
+    public com.krishna.category.dto.CategoryDto categoryToDtoMapper() {
+        return categoryMapper.toDto(category);
+    }
+
+    /**
+     * CategoryDto to category through ModelMapper.
+     * @return the mapped category.
+     */
+    @Benchmark
+    public Category categoryToEntityModelMapper() {
+        return modelMapper.map(categoryDto, Category.class);
+    }
+
+    /**
+     * CategoryDto to category through the hand-written mapper.
+     * @return the mapped category.
+     */
+    @Benchmark
+    public Category categoryToEntityMapper() {
+        return categoryMapper.toEntity(categoryDto);
+    }
+
+    /**
+     * ReportDto to report through ModelMapper.
+     * @return the mapped report.
+     */
+    @Benchmark
+    public Report reportToEntityModelMapper() {
+        return modelMapper.map(reportDto, Report.class);
+    }
+
+    /**
+     * ReportDto to report through the hand-written mapper.
+     * @return the mapped report.
+     */
+    @Benchmark
+    public Report reportToEntityMapper() {
+        return reportMapper.toEntity(reportDto);
+    }
+}
@@ -0,0 +1,69 @@
+package com.krishna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Measures BCryptPasswordEncoder.matches, the password check of every login,
+ * at several cost factors. The auth and registration services use the
+ * default cost of 10; each step up doubles the time per check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    /**
+     * The password checked on every call.
+     */
+    private static final String PASSWORD = "Assessment@123";
+
+    /**
+     * The BCrypt cost factor, the log2 of the number of key rounds.
+     */
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+
+    /**
+     * The encoder under test.
+     */
+    private BCryptPasswordEncoder passwordEncoder;
+
+    /**
+     * The stored hash of {@link #PASSWORD}.
+     */
+    private String hash;
+
+    /**
+     * Hashes the password at the cost factor of the run.
+     */
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        hash = passwordEncoder.encode(PASSWORD);
+    }
+
+    /**
+     * Checks the right password.
+     * @return Whether it matched, always true.
+     */
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,213 @@
+package com.krishna.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.krishna.question.dto.QuestionDto;
+import com.krishna.question.dto.QuizDto;
+import com.krishna.question.entity.Question;
+import com.krishna.question.entity.QuestionOptions;
+import com.krishna.question.externalService.CachedQuizService;
+import com.krishna.question.externalService.QuizService;
+import com.krishna.question.repository.QuestionRepository;
+import com.krishna.question.service.implementation.QuestionServiceImpl;
+import com.krishna.question.utility.NearCache;
+import com.krishna.question.utility.SuccessResponse;
+
+/**
+ * Measures QuestionServiceImpl.addQuestion and its entity conversions. The
+ * repository and the quiz service are stubs and the quiz is served from the
+ * near cache, so the scores cover the option-set dedup, the correct-option
+ * check and the conversions, not the database or the network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionServiceBenchmark {
+
+    /**
+     * The private convertDtoToEntity method of the service.
+     */
+    private static final MethodHandle CONVERT_DTO_TO_ENTITY;
+
+    /**
+     * The private convertEntityToDto method of the service.
+     */
+    private static final MethodHandle CONVERT_ENTITY_TO_DTO;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                    QuestionServiceImpl.class, MethodHandles.lookup());
+            CONVERT_DTO_TO_ENTITY = lookup.findVirtual(
+                    QuestionServiceImpl.class, "convertDtoToEntity",
+                    MethodType.methodType(Question.class, QuestionDto.class));
+            CONVERT_ENTITY_TO_DTO = lookup.findVirtual(
+                    QuestionServiceImpl.class, "convertEntityToDto",
+                    MethodType.methodType(QuestionDto.class, Question.class));
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * The service under test.
+     */
+    private QuestionServiceImpl questionService;
+
+    /**
+     * A valid question.
+     */
+    private QuestionDto validQuestion;
+
+    /**
+     * A question with two equal options.
+     */
+    private QuestionDto duplicateOptionQuestion;
+
+    /**
+     * A question whose correct option is none of its options.
+     */
+    private QuestionDto wrongCorrectOptionQuestion;
+
+    /**
+     * The entity of {@link #validQuestion}.
+     */
+    private Question question;
+
+    /**
+     * Wires the service with a stub repository and a cached stub quiz
+     * service.
+     * @throws Throwable If the conversion handle fails.
+     */
+    @Setup
+    public void setUp() throws Throwable {
+        QuizDto quizDto = new QuizDto();
+        quizDto.setQuizId(4010);
+        quizDto.setCategoryId(3010);
+        quizDto.setQuizName("Collections");
+        quizDto.setQuizDescription("Lists, sets and maps");
+        quizDto.setTimeInMinutes(30);
+        quizDto.setEnabled(true);
+
+        CachedQuizService quizService = new CachedQuizService();
+        Fixtures.inject(quizService, "quizService", Fixtures.stub(
+                QuizService.class, invocation -> quizDto));
+        Fixtures.inject(quizService, "quizCache", new NearCache<>("quiz",
+                1000, Duration.ofHours(1)));
+
+        questionService = new QuestionServiceImpl();
+        Fixtures.inject(questionService, "quizService", quizService);
+        Fixtures.inject(questionService, "questionRepository",
+                Fixtures.stub(QuestionRepository.class,
+                        invocation -> invocation.args()[0]));
+
+        validQuestion = question("ArrayList", "LinkedList", "HashSet",
+                "TreeMap", "HashSet");
+        duplicateOptionQuestion = question("ArrayList", "LinkedList",
+                "ArrayList", "TreeMap", "TreeMap");
+        wrongCorrectOptionQuestion = question("ArrayList", "LinkedList",
+                "HashSet", "TreeMap", "Vector");
+        question = (Question) CONVERT_DTO_TO_ENTITY.invokeExact(
+                questionService, validQuestion);
+    }
+
+    /**
+     * Adds a valid question.
+     * @return The success response.
+     */
+    @Benchmark
+    public SuccessResponse addQuestion() {
+        return questionService.addQuestion(validQuestion);
+    }
+
+    /**
+     * Rejects a question with a duplicate option.
+     * @return The rejection.
+     */
+    @Benchmark
+    public RuntimeException addQuestionDuplicateOption() {
+        return rejection(duplicateOptionQuestion);
+    }
+
+    /**
+     * Rejects a question whose correct option is not one of its options.
+     * @return The rejection.
+     */
+    @Benchmark
+    public RuntimeException addQuestionWrongCorrectOption() {
+        return rejection(wrongCorrectOptionQuestion);
+    }
+
+    /**
+     * Converts a questionDto into a question.
+     * @return The question.
+     * @throws Throwable Never, the conversion does not throw.
+     */
+    @Benchmark
+    public Question convertDtoToEntity() throws Throwable {
+        return (Question) CONVERT_DTO_TO_ENTITY.invokeExact(questionService,
+                validQuestion);
+    }
+
+    /**
+     * Converts a question into a questionDto.
+     * @return The questionDto.
+     * @throws Throwable Never, the conversion does not throw.
+     */
+    @Benchmark
+    public QuestionDto convertEntityToDto() throws Throwable {
+        return (QuestionDto) CONVERT_ENTITY_TO_DTO.invokeExact(
+                questionService, question);
+    }
+
+    /**
+     * Adds an invalid question and returns the exception it is rejected
+     * with.
+     * @param questionDto The invalid question.
+     * @return The rejection.
+     */
+    private RuntimeException rejection(final QuestionDto questionDto) {
+        try {
+            questionService.addQuestion(questionDto);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+        throw new IllegalStateException("Question was not rejected");
+    }
+
+    /**
+     * Builds a question of quiz 4010.
+     * @param one The first option.
+     * @param two The second option.
+     * @param three The third option.
+     * @param four The fourth option.
+     * @param correct The correct option.
+     * @return The questionDto.
+     */
+    private static QuestionDto question(final String one, final String two,
+            final String three, final String four, final String correct) {
+        QuestionDto questionDto = new QuestionDto(0,
+                "Which collection rejects duplicate elements?",
+                new QuestionOptions(one, two, three, four, correct));
+        questionDto.setQuizId(4010);
+        return questionDto;
+    }
+}
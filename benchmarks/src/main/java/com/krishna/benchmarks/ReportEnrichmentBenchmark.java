@@ -0,0 +1,187 @@
+package com.krishna.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.krishna.report.dto.QuizDto;
+import com.krishna.report.dto.RegistrationDto;
+import com.krishna.report.dto.ReportDto;
+import com.krishna.report.externalService.CachedRegistrationService;
+import com.krishna.report.externalService.QuizService;
+import com.krishna.report.externalService.RegistrationService;
+import com.krishna.report.service.implementation.ReportEnricher;
+import com.krishna.report.utility.NearCache;
+
+/**
+ * Measures the enrichment of reports with users and quizzes, as done by
+ * ReportServiceImpl for every list and export. The Feign clients are stubs
+ * answering from memory, so the scores cover collecting the distinct keys,
+ * the concurrent hand-off, the user cache and the join, not the network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportEnrichmentBenchmark {
+
+    /**
+     * The number of distinct users the reports belong to.
+     */
+    private static final int USERS = 50;
+
+    /**
+     * The number of distinct quizzes the reports belong to.
+     */
+    private static final int QUIZZES = 20;
+
+    /**
+     * The number of reports enriched per call.
+     */
+    @Param({"10", "100", "500"})
+    private int reports;
+
+    /**
+     * Whether users are served from the user cache or fetched on every call.
+     */
+    @Param({"true", "false"})
+    private boolean userCache;
+
+    /**
+     * The enricher under test.
+     */
+    private ReportEnricher reportEnricher;
+
+    /**
+     * The executor of the user lookups, sized like the service's one.
+     */
+    private ExecutorService enrichmentExecutor;
+
+    /**
+     * The reports to enrich.
+     */
+    private List<ReportDto> reportDtos;
+
+    /**
+     * Wires the enricher with stub registration and quiz clients.
+     */
+    @Setup
+    public void setUp() {
+        Map<String, RegistrationDto> users = new HashMap<>();
+        for (int i = 0; i < USERS; i++) {
+            RegistrationDto user = new RegistrationDto();
+            user.setUserId(i);
+            user.setFirstName("Student");
+            user.setLastName(String.valueOf(i));
+            user.setEmail(email(i));
+            user.setUserRole("user");
+            users.put(user.getEmail(), user);
+        }
+        Map<Integer, QuizDto> quizzes = new HashMap<>();
+        for (int i = 0; i < QUIZZES; i++) {
+            QuizDto quiz = new QuizDto();
+            quiz.setQuizId(4000 + i);
+            quiz.setCategoryId(3000);
+            quiz.setQuizName("Quiz " + i);
+            quiz.setTimeInMinutes(30);
+            quizzes.put(quiz.getQuizId(), quiz);
+        }
+
+        CachedRegistrationService registrationService =
+                new CachedRegistrationService();
+        Fixtures.inject(registrationService, "registrationService",
+                Fixtures.stub(RegistrationService.class,
+                        invocation -> subMap(users, invocation.args()[0])));
+        Fixtures.inject(registrationService, "userCache", new NearCache<>(
+                "user", userCache ? 1000 : 0, Duration.ofHours(1)));
+
+        enrichmentExecutor = Executors.newFixedThreadPool(8);
+        reportEnricher = new ReportEnricher();
+        Fixtures.inject(reportEnricher, "registrationService",
+                registrationService);
+        Fixtures.inject(reportEnricher, "quizService", Fixtures.stub(
+                QuizService.class,
+                invocation -> subMap(quizzes, invocation.args()[0])));
+        Fixtures.inject(reportEnricher, "enrichmentExecutor",
+                enrichmentExecutor);
+
+        reportDtos = new ArrayList<>(reports);
+        for (int i = 0; i < reports; i++) {
+            ReportDto reportDto = new ReportDto();
+            reportDto.setReportId(6000 + i);
+            reportDto.setUserEmailId(email(i % USERS));
+            reportDto.setQuizId(4000 + i % QUIZZES);
+            reportDto.setTotalMarks(20);
+            reportDto.setMarksObtained(i % 21);
+            reportDtos.add(reportDto);
+        }
+    }
+
+    /**
+     * Stops the executor.
+     */
+    @TearDown
+    public void tearDown() {
+        enrichmentExecutor.shutdown();
+    }
+
+    /**
+     * Enriches the reports.
+     * @return The enriched reports.
+     */
+    @Benchmark
+    public List<ReportDto> enrich() {
+        return reportEnricher.enrich(reportDtos);
+    }
+
+    /**
+     * Answers a batch lookup the way the remote batch endpoints do.
+     * @param values All known values by key.
+     * @param keys The requested keys, a set.
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     * @return The values of the requested keys that exist.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Map<K, V> subMap(final Map<K, V> values,
+            final Object keys) {
+        Map<K, V> result = new HashMap<>();
+        for (K key : (Set<K>) keys) {
+            V value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the email of a user.
+     * @param user The number of the user.
+     * @return The email.
+     */
+    private static String email(final int user) {
+        return "student" + user + "@nucleusteq.com";
+    }
+}
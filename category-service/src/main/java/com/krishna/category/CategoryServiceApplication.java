@@ -1,11 +1,21 @@
 package com.krishna.category;
 
-import org.modelmapper.ModelMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krishna.category.dto.CategoryDto;
+import com.krishna.category.utility.ResponseCache;
+
 @EnableDiscoveryClient
 @SpringBootApplication
 @EnableFeignClients
@@ -15,15 +25,47 @@ public class CategoryServiceApplication {
 		SpringApplication.run(CategoryServiceApplication.class, args);
 	}
 	
-	 /**
-     * Creates and returns an instance of ModelMapper, which is used for object
-     * mapping.
+    /**
+     * Creates the cache of category responses by ID.
      *
-     * @return An instance of ModelMapper.
+     * @param objectMapper The mapper used to compute entity tags.
+     * @param maxSize      The maximum number of cached responses.
+     * @param ttl          How long a response is served from the cache.
+     * @return The category response cache.
      */
     @Bean
-    public ModelMapper getModelMapper() {
-        return new ModelMapper();
+    public ResponseCache<Integer, CategoryDto> categoryCache(
+            final ObjectMapper objectMapper,
+            @Value("${response-cache.category.max-size:10000}") final int maxSize,
+            @Value("${response-cache.category.ttl:60s}") final Duration ttl) {
+        return new ResponseCache<>(objectMapper, maxSize, ttl);
     }
 
+    /**
+     * Creates the cache of category list responses.
+     *
+     * @param objectMapper The mapper used to compute entity tags.
+     * @param maxSize      The maximum number of cached responses.
+     * @param ttl          How long a response is served from the cache.
+     * @return The category list response cache.
+     */
+    @Bean
+    public ResponseCache<String, List<CategoryDto>> categoryListCache(
+            final ObjectMapper objectMapper,
+            @Value("${response-cache.category-list.max-size:100}") final int maxSize,
+            @Value("${response-cache.category-list.ttl:60s}") final Duration ttl) {
+        return new ResponseCache<>(objectMapper, maxSize, ttl);
+    }
+
+    /**
+     * Creates the executor running category delete jobs. A single thread
+     * runs the jobs one after the other, so that one large category does
+     * not flood the quiz service with concurrent deletes.
+     *
+     * @return The delete job executor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService deleteJobExecutor() {
+        return Executors.newSingleThreadExecutor();
+    }
 }
@@ -1,10 +1,15 @@
 package com.krishna.category.controller;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,12 +20,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.krishna.category.dto.CategoryDeleteJobDto;
 import com.krishna.category.dto.CategoryDto;
 import com.krishna.category.dto.QuizDto;
 import com.krishna.category.service.CategoryService;
+import com.krishna.category.utility.CachedResponse;
 import com.krishna.category.utility.CategoryLoggerMessages;
+import com.krishna.category.utility.SliceResponse;
 import com.krishna.category.utility.SuccessResponse;
 
 import jakarta.validation.Valid;
@@ -28,7 +37,8 @@ import jakarta.validation.Valid;
 /**
  * Controller class for managing categories.
  */
-@CrossOrigin
+@CrossOrigin(exposedHeaders = {SliceResponse.NEXT_CURSOR_HEADER,
+        HttpHeaders.ETAG, HttpHeaders.LOCATION})
 @RestController
 @RequestMapping("/category")
 public class CategoryController {
@@ -61,33 +71,67 @@ public class CategoryController {
     }
 
     /**
-     * Retrieves a list of all categories.
-     * @return A list of CategoryDto objects representing all categories.
+     * Retrieves a list of all categories, or one slice of it when any of the
+     * paging parameters is given.
+     * @param page The zero based page number.
+     * @param size The number of categories per slice.
+     * @param after Only categories with a greater ID are returned.
+     * @return A list of CategoryDto objects; the cursor of the next slice is
+     *         returned in the {@link SliceResponse#NEXT_CURSOR_HEADER} header.
+     *         The full list carries an ETag and is answered with 304 (Not
+     *         Modified) when it matches If-None-Match.
      */
     @GetMapping
-    public final ResponseEntity<List<CategoryDto>> getAllCategories() {
+    public final ResponseEntity<List<CategoryDto>> getAllCategories(
+            @RequestParam(required = false) final Integer page,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Integer after) {
         LOGGER.info(CategoryLoggerMessages.GET_ALL_CATEGORIES_REQUEST);
-        List<CategoryDto> categoryes = categoryService.getAllCategory();
+        if (page != null || size != null || after != null) {
+            return categoryService.getCategorySlice(after, page, size)
+                    .toResponseEntity();
+        }
+        CachedResponse<List<CategoryDto>> categoryes =
+                categoryService.getAllCategory();
         LOGGER.info(
                 CategoryLoggerMessages.ALL_CATEGORIES_RETRIEVED_SUCCESSFULLY);
-        return new ResponseEntity<>(categoryes, HttpStatus.OK);
+        return categoryes.toResponseEntity();
     }
 
 
     /**
      * Retrieves a category by its ID.
      * @param id The ID of the category to retrieve.
-     * @return The CategoryDto object representing the retrieved category.
+     * @return The CategoryDto object representing the retrieved category,
+     *         with an ETag; 304 (Not Modified) when it matches If-None-Match.
      */
     @GetMapping("/{id}")
     public final ResponseEntity<CategoryDto> getCategoryById(
             @PathVariable final int id) {
         LOGGER.info(CategoryLoggerMessages.GET_CATEGORY_BY_ID_REQUEST + id);
         System.out.println("reached in get category by id before calling the service class.");
-        CategoryDto category = categoryService.getCategoryById(id);
+        CachedResponse<CategoryDto> category =
+                categoryService.getCategoryById(id);
         LOGGER.info(CategoryLoggerMessages.CATEGORY_RETRIEVED_SUCCESSFULLY);
         System.out.println("reached in get category by id after calling the service class.");
-        return new ResponseEntity<>(category, HttpStatus.OK);
+        return category.toResponseEntity();
+    }
+
+    /**
+     * Retrieves several categories in a single call.
+     * @param categoryIds The IDs of the categories to retrieve.
+     * @return A map of category ID to CategoryDto for every ID that exists.
+     */
+    @PostMapping("/batch")
+    public final ResponseEntity<Map<Integer, CategoryDto>> getCategoriesByIds(
+            @RequestBody final Set<Integer> categoryIds) {
+        LOGGER.info(CategoryLoggerMessages.GET_CATEGORIES_BY_IDS_REQUEST
+                + categoryIds.size());
+        Map<Integer, CategoryDto> categories =
+                categoryService.getCategoriesByIds(categoryIds);
+        LOGGER.info(
+                CategoryLoggerMessages.ALL_CATEGORIES_RETRIEVED_SUCCESSFULLY);
+        return new ResponseEntity<>(categories, HttpStatus.OK);
     }
 
     /**
@@ -110,18 +154,35 @@ public class CategoryController {
     }
 
     /**
-     * Deletes a category by its ID.
+     * Deletes a category by its ID. The category is disabled at once and
+     * deleted, with its quizzes, in a background job.
      * @param categoryId The ID of the category to delete.
-     * @return A message indicating the result of the category deletion.
+     * @return The delete job with HTTP status 202 (Accepted), and its
+     *         location in the Location header.
      */
     @DeleteMapping("delete/{categoryId}")
-    public final ResponseEntity<SuccessResponse> deleteCategory(
+    public final ResponseEntity<CategoryDeleteJobDto> deleteCategory(
             @PathVariable final int categoryId) {
         LOGGER.info(
                 CategoryLoggerMessages.DELETE_CATEGORY_REQUEST + categoryId);
-        SuccessResponse response = categoryService.deleteCategory(categoryId);
-        LOGGER.info(CategoryLoggerMessages.CATEGORY_DELETED_SUCCESSFULLY);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        CategoryDeleteJobDto job = categoryService.deleteCategory(categoryId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/category/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a category delete job. The response is
+     * marked no-store, so the gateway never caches it.
+     * @param jobId The ID of the job.
+     * @return The delete job.
+     */
+    @GetMapping("/jobs/{jobId}")
+    public final ResponseEntity<CategoryDeleteJobDto> getDeleteJob(
+            @PathVariable final int jobId) {
+        LOGGER.info(CategoryLoggerMessages.GET_DELETE_JOB_REQUEST + jobId);
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+                .body(categoryService.getDeleteJob(jobId));
     }
 
     /**
@@ -141,4 +202,36 @@ public class CategoryController {
     public boolean disableCategory(@PathVariable int categoryId) {
         return categoryService.disableCategory(categoryId);
     }
+
+    /**
+     * Enables categories in bulk with a single update.
+     * @param categoryIds The IDs of the categories.
+     * @param cascade Whether all quizzes of the categories are enabled too.
+     * @return The number of updated categories.
+     */
+    @PutMapping("/enable")
+    public final ResponseEntity<Integer> enableCategories(
+            @RequestBody final Set<Integer> categoryIds,
+            @RequestParam(defaultValue = "false") final boolean cascade) {
+        LOGGER.info(CategoryLoggerMessages.SET_CATEGORIES_ENABLED_REQUEST,
+                true, categoryIds, cascade);
+        return new ResponseEntity<>(categoryService.setCategoriesEnabled(
+                categoryIds, true, cascade), HttpStatus.OK);
+    }
+
+    /**
+     * Disables categories in bulk with a single update.
+     * @param categoryIds The IDs of the categories.
+     * @param cascade Whether all quizzes of the categories are disabled too.
+     * @return The number of updated categories.
+     */
+    @PutMapping("/disable")
+    public final ResponseEntity<Integer> disableCategories(
+            @RequestBody final Set<Integer> categoryIds,
+            @RequestParam(defaultValue = "false") final boolean cascade) {
+        LOGGER.info(CategoryLoggerMessages.SET_CATEGORIES_ENABLED_REQUEST,
+                false, categoryIds, cascade);
+        return new ResponseEntity<>(categoryService.setCategoriesEnabled(
+                categoryIds, false, cascade), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,54 @@
+package com.krishna.category.dto;
+
+import java.time.LocalDateTime;
+
+import com.krishna.category.entity.DeleteJobStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) class representing the progress of a category
+ * delete job.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class CategoryDeleteJobDto {
+
+    /**
+     * The ID of the job.
+     */
+    private int jobId;
+
+    /**
+     * The ID of the category being deleted.
+     */
+    private int categoryId;
+
+    /**
+     * The state of the job.
+     */
+    private DeleteJobStatus status;
+
+    /**
+     * The number of quizzes deleted so far.
+     */
+    private int quizzesDeleted;
+
+    /**
+     * The reason of the last failure, if any.
+     */
+    private String error;
+
+    /**
+     * When the job was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * When the job last changed.
+     */
+    private LocalDateTime updatedAt;
+}
@@ -12,7 +12,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -24,14 +26,27 @@ import lombok.Setter;
 @Setter
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = Category.NAME_CONSTRAINT, columnNames = "categoryName"))
 @SequenceGenerator(name = "catSeq",
-initialValue = Category.ID_INITIAL_VALUE, allocationSize = 1)
+initialValue = Category.ID_INITIAL_VALUE,
+allocationSize = Category.ID_ALLOCATION_SIZE)
 public class Category {
 
     /**
      * Constant for initial value of category ID sequence.
      */
     public static final int ID_INITIAL_VALUE = 3010;
+
+    /**
+     * Constant for the number of category IDs reserved per sequence query.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Constant for the name of the unique constraint on the category name.
+     */
+    public static final String NAME_CONSTRAINT = "uk_category_category_name";
     /**
      * The ID of the category.
      */
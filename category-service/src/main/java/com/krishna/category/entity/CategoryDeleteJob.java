@@ -0,0 +1,111 @@
+package com.krishna.category.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity class representing the background deletion of a category. The
+ * number of deleted quizzes is saved after every chunk, so the job can be
+ * followed while it runs and resumed after a failure or a restart.
+ */
+@Entity
+@Setter
+@Getter
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_delete_job_category_id", columnList = "categoryId"),
+        @Index(name = "idx_delete_job_status", columnList = "status")})
+@SequenceGenerator(name = "deleteJobSeq", allocationSize = 1)
+public class CategoryDeleteJob {
+
+    /**
+     * The longest error message kept on a failed job.
+     */
+    public static final int ERROR_LENGTH = 255;
+
+    /**
+     * The ID of the job.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "deleteJobSeq")
+    private int jobId;
+
+    /**
+     * The ID of the category being deleted.
+     */
+    @Column(nullable = false)
+    private int categoryId;
+
+    /**
+     * The state of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeleteJobStatus status;
+
+    /**
+     * The number of quizzes deleted so far; the checkpoint of the job.
+     */
+    @Column(nullable = false)
+    private int quizzesDeleted;
+
+    /**
+     * The reason of the last failure, if any.
+     */
+    @Column(length = ERROR_LENGTH)
+    private String error;
+
+    /**
+     * When the job was created.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * When the job last changed.
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructs a pending job for a category.
+     * @param cId The ID of the category to delete.
+     */
+    public CategoryDeleteJob(final int cId) {
+        this.categoryId = cId;
+        this.status = DeleteJobStatus.PENDING;
+    }
+
+    /**
+     * Stamps the creation and update times of a new job.
+     */
+    @PrePersist
+    void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    /**
+     * Stamps the update time of a changed job.
+     */
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,28 @@
+package com.krishna.category.entity;
+
+/**
+ * The states of a category delete job.
+ */
+public enum DeleteJobStatus {
+
+    /**
+     * The job is waiting for the delete executor.
+     */
+    PENDING,
+
+    /**
+     * The quizzes of the category are being deleted chunk by chunk.
+     */
+    RUNNING,
+
+    /**
+     * The category and all its quizzes are deleted.
+     */
+    COMPLETED,
+
+    /**
+     * A chunk failed; deleting the category again resumes the job from its
+     * last checkpoint.
+     */
+    FAILED
+}
@@ -6,11 +6,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.krishna.category.dto.QuizDto;
 import com.krishna.category.utility.SuccessResponse;
 
 import java.util.List;
+import java.util.Set;
 
 @FeignClient(name="quiz-service")
 public interface QuizService {
@@ -20,4 +23,19 @@ public interface QuizService {
 
 	  @DeleteMapping("/quizzes/delete/quiz/{categoryId}")
 	  ResponseEntity<String> deleteQuizzesByCategoryId(@PathVariable int categoryId);
+
+	  @DeleteMapping("/quizzes/categories/{categoryId}")
+	  Integer deleteQuizChunk(@PathVariable("categoryId") int categoryId,
+	          @RequestParam("limit") int limit);
+
+	  @DeleteMapping("/quizzes/cache/categories/{categoryId}")
+	  void evictCategory(@PathVariable("categoryId") int categoryId);
+
+	  @PutMapping("/quizzes/enable")
+	  Integer enableQuizzesOfCategories(
+	          @RequestParam("categoryIds") Set<Integer> categoryIds);
+
+	  @PutMapping("/quizzes/disable")
+	  Integer disableQuizzesOfCategories(
+	          @RequestParam("categoryIds") Set<Integer> categoryIds);
 }
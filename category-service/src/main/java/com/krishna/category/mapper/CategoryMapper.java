@@ -0,0 +1,61 @@
+package com.krishna.category.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.krishna.category.dto.CategoryDeleteJobDto;
+import com.krishna.category.dto.CategoryDto;
+import com.krishna.category.entity.Category;
+import com.krishna.category.entity.CategoryDeleteJob;
+
+/**
+ * Maps between {@link Category} entities and {@link CategoryDto} objects by
+ * copying every shared property explicitly.
+ */
+@Component
+public class CategoryMapper {
+
+    /**
+     * Converts Category entity to CategoryDto.
+     * @param category category object.
+     * @return CategoryDto object.
+     */
+    public CategoryDto toDto(final Category category) {
+        CategoryDto categoryDto = new CategoryDto();
+        categoryDto.setCategoryId(category.getCategoryId());
+        categoryDto.setCategoryName(category.getCategoryName());
+        categoryDto.setDescription(category.getDescription());
+        categoryDto.setEnabled(category.isEnabled());
+        return categoryDto;
+    }
+
+    /**
+     * Converts CategoryDto to Category entity.
+     * @param categoryDto The CategoryDto object.
+     * @return Category object.
+     */
+    public Category toEntity(final CategoryDto categoryDto) {
+        Category category = new Category();
+        category.setCategoryId(categoryDto.getCategoryId());
+        category.setCategoryName(categoryDto.getCategoryName());
+        category.setDescription(categoryDto.getDescription());
+        category.setEnabled(categoryDto.isEnabled());
+        return category;
+    }
+
+    /**
+     * Converts CategoryDeleteJob entity to CategoryDeleteJobDto.
+     * @param job The delete job.
+     * @return CategoryDeleteJobDto object.
+     */
+    public CategoryDeleteJobDto toDto(final CategoryDeleteJob job) {
+        CategoryDeleteJobDto jobDto = new CategoryDeleteJobDto();
+        jobDto.setJobId(job.getJobId());
+        jobDto.setCategoryId(job.getCategoryId());
+        jobDto.setStatus(job.getStatus());
+        jobDto.setQuizzesDeleted(job.getQuizzesDeleted());
+        jobDto.setError(job.getError());
+        jobDto.setCreatedAt(job.getCreatedAt());
+        jobDto.setUpdatedAt(job.getUpdatedAt());
+        return jobDto;
+    }
+}
@@ -0,0 +1,62 @@
+package com.krishna.category.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.krishna.category.entity.CategoryDeleteJob;
+import com.krishna.category.entity.DeleteJobStatus;
+
+/**
+ * Repository interface for managing category delete jobs.
+ */
+@Repository
+public interface CategoryDeleteJobRepository
+        extends JpaRepository<CategoryDeleteJob, Integer> {
+
+    /**
+     * Retrieves the jobs in any of the given states.
+     * @param statuses The states to look for.
+     * @return The matching jobs.
+     */
+    List<CategoryDeleteJob> findByStatusIn(Collection<DeleteJobStatus> statuses);
+
+    /**
+     * Retrieves the job of a category that has not completed, if any.
+     * @param categoryId The ID of the category.
+     * @param status The state to exclude, normally COMPLETED.
+     * @return An optional containing the unfinished job.
+     */
+    Optional<CategoryDeleteJob> findFirstByCategoryIdAndStatusNot(
+            int categoryId, DeleteJobStatus status);
+
+    /**
+     * Marks a job as running if it is pending, or running but not updated
+     * since the given time, i.e. left behind by an instance that stopped.
+     * Only one instance can claim a job, as the row is updated only while
+     * it still matches.
+     * @param jobId The ID of the job.
+     * @param now The time of the claim.
+     * @param staleBefore Running jobs updated before this are claimed too.
+     * @return 1 if the job was claimed, 0 otherwise.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update CategoryDeleteJob j set j.status = "
+            + "com.krishna.category.entity.DeleteJobStatus.RUNNING, "
+            + "j.updatedAt = :now where j.jobId = :jobId and (j.status = "
+            + "com.krishna.category.entity.DeleteJobStatus.PENDING "
+            + "or (j.status = "
+            + "com.krishna.category.entity.DeleteJobStatus.RUNNING "
+            + "and j.updatedAt < :staleBefore))")
+    int claim(@Param("jobId") int jobId, @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,10 +1,17 @@
 package com.krishna.category.repository;
 
 
+import java.util.Collection;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.krishna.category.entity.Category;
 
@@ -24,4 +31,29 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
      */
     Optional<Category> findByCategoryName(String name);
 
+    /**
+     * Retrieves one slice of the categories whose ID is greater than the
+     * given cursor.
+     * @param categoryId The cursor; only categories after it are returned.
+     * @param pageable The size, page and ordering of the slice.
+     * @return A slice of categories, without a total count query.
+     */
+    Slice<Category> findByCategoryIdGreaterThan(int categoryId,
+            Pageable pageable);
+
+    /**
+     * Enables or disables the given categories with a single statement,
+     * without loading them.
+     * @param categoryIds The IDs of the categories.
+     * @param enabled Whether the categories are enabled.
+     * @return The number of updated categories.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Category c set c.enabled = :enabled "
+            + "where c.categoryId in :categoryIds")
+    int updateEnabledByCategoryIdIn(
+            @Param("categoryIds") Collection<Integer> categoryIds,
+            @Param("enabled") boolean enabled);
+
 }
@@ -2,10 +2,16 @@ package com.krishna.category.service;
 
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.stereotype.Service;
 
+import com.krishna.category.dto.CategoryDeleteJobDto;
 import com.krishna.category.dto.CategoryDto;
 import com.krishna.category.dto.QuizDto;
+import com.krishna.category.utility.CachedResponse;
+import com.krishna.category.utility.SliceResponse;
 import com.krishna.category.utility.SuccessResponse;
 
 
@@ -26,22 +32,52 @@ public interface CategoryService {
     /**
      * Retrieves a category by its ID.
      * @param id The ID of the category to retrieve.
-     * @return The retrieved CategoryDto.
+     * @return The retrieved CategoryDto and its entity tag.
      */
-    CategoryDto getCategoryById(int id);
+    CachedResponse<CategoryDto> getCategoryById(int id);
 
     /**
      * Retrieves all categories.
-     * @return A list of all CategoryDtos.
+     * @return A list of all CategoryDtos and its entity tag.
      */
-    List<CategoryDto> getAllCategory();
+    CachedResponse<List<CategoryDto>> getAllCategory();
 
     /**
-     * Deletes a category.
+     * Retrieves one slice of the categories ordered by ID.
+     * @param after Only categories with a greater ID are returned, may be null.
+     * @param page The zero based page number, may be null.
+     * @param size The slice size, may be null.
+     * @return The slice of CategoryDtos and the cursor of the next slice.
+     */
+    SliceResponse<CategoryDto> getCategorySlice(Integer after, Integer page,
+            Integer size);
+
+    /**
+     * Retrieves the categories matching the given IDs.
+     * @param categoryIds The IDs of the categories to retrieve.
+     * @return A map of category ID to CategoryDto; unknown IDs are omitted.
+     */
+    Map<Integer, CategoryDto> getCategoriesByIds(Set<Integer> categoryIds);
+
+    /**
+     * Disables a category at once and deletes it, with its quizzes, in a
+     * background job.
      * @param categoryId The ID of the category to delete.
-     * @return A message indicating the result of the operation.
+     * @return The delete job, to follow its progress.
      */
-    SuccessResponse deleteCategory(int categoryId);
+    CategoryDeleteJobDto deleteCategory(int categoryId);
+
+    /**
+     * Retrieves a category delete job.
+     * @param jobId The ID of the job.
+     * @return The progress of the job.
+     */
+    CategoryDeleteJobDto getDeleteJob(int jobId);
+
+    /**
+     * Resumes the delete jobs that a restart interrupted.
+     */
+    void resumeDeleteJobs();
 
     /**
      * Updates a category.
@@ -62,4 +98,14 @@ public interface CategoryService {
      * @param categoryId The unique identifier of the category to disable.
      */
     boolean disableCategory(int categoryId);
+
+    /**
+     * Enables or disables categories in bulk with a single update statement.
+     * @param categoryIds The IDs of the categories.
+     * @param enabled Whether the categories are enabled.
+     * @param cascade Whether all quizzes of the categories are updated too.
+     * @return The number of updated categories.
+     */
+    int setCategoriesEnabled(Set<Integer> categoryIds, boolean enabled,
+            boolean cascade);
 }
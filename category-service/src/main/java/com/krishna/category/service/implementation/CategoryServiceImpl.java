@@ -1,25 +1,44 @@
 package com.krishna.category.service.implementation;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.krishna.category.dto.CategoryDeleteJobDto;
 import com.krishna.category.dto.CategoryDto;
 import com.krishna.category.dto.QuizDto;
 import com.krishna.category.entity.Category;
+import com.krishna.category.entity.CategoryDeleteJob;
+import com.krishna.category.entity.DeleteJobStatus;
 import com.krishna.category.exception.DuplicateResourceException;
 import com.krishna.category.exception.ResourceNotFoundException;
 import com.krishna.category.externalServices.QuizService;
+import com.krishna.category.mapper.CategoryMapper;
+import com.krishna.category.repository.CategoryDeleteJobRepository;
 import com.krishna.category.repository.CategoryRepository;
 import com.krishna.category.service.CategoryService;
+import com.krishna.category.utility.CachedResponse;
+import com.krishna.category.utility.CategoryLoggerMessages;
+import com.krishna.category.utility.ConstraintViolations;
 import com.krishna.category.utility.Message;
+import com.krishna.category.utility.ResponseCache;
+import com.krishna.category.utility.SliceResponse;
 import com.krishna.category.utility.SuccessResponse;
 
 
@@ -41,17 +60,74 @@ public class CategoryServiceImpl implements CategoryService {
      * This is use to map the category with Dto and viceversa..
      */
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoryMapper categoryMapper;
     
     @Autowired
     private QuizService quizService;
 
+    /**
+     * This is use to cache categories by ID.
+     */
+    @Autowired
+    private ResponseCache<Integer, CategoryDto> categoryCache;
+
+    /**
+     * This is use to cache the list of all categories.
+     */
+    @Autowired
+    private ResponseCache<String, List<CategoryDto>> categoryListCache;
+
+    /**
+     * This is use to store the progress of the category delete jobs.
+     */
+    @Autowired
+    private CategoryDeleteJobRepository deleteJobRepository;
+
+    /**
+     * This is use to run the category delete jobs in the background.
+     */
+    @Autowired
+    private ExecutorService deleteJobExecutor;
+
+    /**
+     * Key of the list of all categories in the list cache.
+     */
+    private static final String ALL_CATEGORIES_KEY = "all";
+
+    /**
+     * The most quizzes a delete job removes per call to the quiz service.
+     */
+    private static final int DELETE_CHUNK_SIZE = 100;
+
+    /**
+     * How long a running delete job may go without an update before another
+     * instance takes it over; every deleted chunk updates the job.
+     */
+    private static final Duration DELETE_JOB_LEASE = Duration.ofMinutes(5);
+
     /**
      * this is logger object that is use to generate log.
      */
     private static final Logger LOGGER = LoggerFactory
             .getLogger(CategoryServiceImpl.class);
 
+    /**
+     * Translates a rejected category write into the exception to throw.
+     * @param exception The exception thrown by the write.
+     * @return A DuplicateResourceException if the category name is taken,
+     *         otherwise the exception itself.
+     */
+    private RuntimeException duplicateName(
+            final DataIntegrityViolationException exception) {
+        if (!ConstraintViolations.violates(exception,
+                Category.NAME_CONSTRAINT)) {
+            return exception;
+        }
+        LOGGER.error(Message.CATEGORY_ALREADY_EXISTS);
+        return new DuplicateResourceException(
+                Message.CATEGORY_ALREADY_EXISTS);
+    }
+
     /**
      * Adds a new category.
      * @param categoryDto The DTO containing category information.
@@ -61,26 +137,34 @@ public class CategoryServiceImpl implements CategoryService {
     public final SuccessResponse addCategory(final CategoryDto categoryDto) {
 
         Category newCategory = dtoToEntity(categoryDto);
-        Optional<Category> existingCategory = categoryRepository
-                .findByCategoryName(newCategory.getCategoryName());
-        if (existingCategory.isPresent()) {
-            LOGGER.error(Message.CATEGORY_ALREADY_EXISTS);
-            throw new DuplicateResourceException(
-                Message.CATEGORY_ALREADY_EXISTS);
+        try {
+            categoryRepository.saveAndFlush(newCategory);
+        } catch (DataIntegrityViolationException exception) {
+            throw duplicateName(exception);
         }
-        categoryRepository.save(newCategory);
+        categoryListCache.evict(ALL_CATEGORIES_KEY);
         return new SuccessResponse(HttpStatus.CREATED.value(),
                 Message.CATEGORY_CREATED_SUCCESSFULLY);
     }
 
     /**
-     * Retrieves a category by ID.
+     * Retrieves a category by ID, from the cache when possible.
      * @param id The ID of the category to retrieve.
-     * @return The CategoryDto representing the category.
+     * @return The CategoryDto representing the category and its entity tag.
      * @throws RuntimeException If the category is not found.
      */
     @Override
-    public final CategoryDto getCategoryById(final int id) {
+    public final CachedResponse<CategoryDto> getCategoryById(final int id) {
+        return categoryCache.get(id, () -> loadCategoryById(id));
+    }
+
+    /**
+     * Reads a category by ID from the database.
+     * @param id The ID of the category to retrieve.
+     * @return The CategoryDto representing the category.
+     * @throws RuntimeException If the category is not found.
+     */
+    private CategoryDto loadCategoryById(final int id) {
 
         Optional<Category> foundCategory = categoryRepository.findById(id);
 
@@ -96,15 +180,57 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     /**
-     * Retrieves a list of all categories.
-     * @return A list of CategoryDto objects representing categories.
+     * Retrieves a list of all categories, from the cache when possible.
+     * @return A list of CategoryDto objects representing categories and its
+     *         entity tag.
      */
     @Override
-    public final List<CategoryDto> getAllCategory() {
+    public final CachedResponse<List<CategoryDto>> getAllCategory() {
+        return categoryListCache.get(ALL_CATEGORIES_KEY, () -> {
+            List<Category> categories = categoryRepository.findAll();
+            return categories.stream().map(this::entityToDTO)
+                    .collect(Collectors.toUnmodifiableList());
+        });
+    }
 
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream().map(this::entityToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Retrieves one slice of the categories ordered by ID.
+     * @param after Only categories with a greater ID are returned, may be null.
+     * @param page The zero based page number, may be null.
+     * @param size The slice size, may be null.
+     * @return The slice of CategoryDtos and the cursor of the next slice.
+     */
+    @Override
+    public final SliceResponse<CategoryDto> getCategorySlice(
+            final Integer after, final Integer page, final Integer size) {
+
+        Slice<Category> slice = categoryRepository.findByCategoryIdGreaterThan(
+                after == null ? 0 : after,
+                SliceResponse.pageRequest(page, size, "categoryId"));
+        List<Category> categories = slice.getContent();
+        Integer nextCursor = slice.hasNext()
+                ? categories.get(categories.size() - 1).getCategoryId()
+                : null;
+        return new SliceResponse<>(categories.stream().map(this::entityToDTO)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Retrieves the categories matching the given IDs with one query.
+     * @param categoryIds The IDs of the categories to retrieve.
+     * @return A map of category ID to CategoryDto; unknown IDs are omitted.
+     */
+    @Override
+    public final Map<Integer, CategoryDto> getCategoriesByIds(
+            final Set<Integer> categoryIds) {
+
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        return categoryRepository.findAllById(categoryIds).stream()
+                .map(this::entityToDTO)
+                .collect(Collectors.toMap(CategoryDto::getCategoryId,
+                        categoryDto -> categoryDto));
     }
 
     /**
@@ -123,28 +249,27 @@ public class CategoryServiceImpl implements CategoryService {
                             Message.CATEGORY_NOT_FOUND
                                     + categoryDto.getCategoryId());
                 });
-        if (!existingCategory.getCategoryName()
-                .equals(categoryDto.getCategoryName())
-                && categoryRepository
-                        .findByCategoryName(categoryDto.getCategoryName())
-                        .isPresent()) {
-            LOGGER.error(Message.CATEGORY_ALREADY_EXISTS);
-            throw new DuplicateResourceException(
-                Message.CATEGORY_ALREADY_EXISTS);
-        }
         existingCategory = dtoToEntity(categoryDto);
-        categoryRepository.save(existingCategory);
+        try {
+            categoryRepository.saveAndFlush(existingCategory);
+        } catch (DataIntegrityViolationException exception) {
+            throw duplicateName(exception);
+        }
+        writeThrough(existingCategory);
+        publishCategoryChanged(existingCategory.getCategoryId());
         return new SuccessResponse(HttpStatus.OK.value(),
                 Message.CATEGORY_UPDATED_SUCCESSFULLY);
     }
 
     /**
-     * Deletes a category.
+     * Disables a category at once and queues a job deleting its quizzes in
+     * chunks, then the category itself. A category already being deleted
+     * keeps its job; a failed job is resumed from its last checkpoint.
      * @param categoryId The ID of the category to delete.
-     * @return A message indicating the result of the operation.
+     * @return The delete job, to follow its progress.
      */
     @Override
-    public final SuccessResponse deleteCategory(final int categoryId) {
+    public final CategoryDeleteJobDto deleteCategory(final int categoryId) {
 
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> {
@@ -152,11 +277,123 @@ public class CategoryServiceImpl implements CategoryService {
                     return new ResourceNotFoundException(
                             Message.CATEGORY_NOT_FOUND + categoryId);
                 });
-        
-        quizService.deleteQuizzesByCategoryId(categoryId);
-        categoryRepository.delete(category);
-        return new SuccessResponse(HttpStatus.OK.value(),
-                Message.CATEGORY_DELETED_SUCCESSFULLY);
+
+        CategoryDeleteJob job = deleteJobRepository
+                .findFirstByCategoryIdAndStatusNot(categoryId,
+                        DeleteJobStatus.COMPLETED)
+                .orElseGet(() -> new CategoryDeleteJob(categoryId));
+        if (job.getJobId() != 0 && job.getStatus() != DeleteJobStatus.FAILED) {
+            return categoryMapper.toDto(job);
+        }
+        job.setStatus(DeleteJobStatus.PENDING);
+        job.setError(null);
+        job = deleteJobRepository.save(job);
+
+        if (category.isEnabled()) {
+            category.setEnabled(false);
+            categoryRepository.save(category);
+            writeThrough(category);
+            publishCategoryChanged(categoryId);
+        }
+        submitDeleteJob(job.getJobId());
+        return categoryMapper.toDto(job);
+    }
+
+    /**
+     * Retrieves a category delete job.
+     * @param jobId The ID of the job.
+     * @return The progress of the job.
+     */
+    @Override
+    public final CategoryDeleteJobDto getDeleteJob(final int jobId) {
+        return deleteJobRepository.findById(jobId).map(categoryMapper::toDto)
+                .orElseThrow(() -> {
+                    LOGGER.error(Message.DELETE_JOB_NOT_FOUND + jobId);
+                    return new ResourceNotFoundException(
+                            Message.DELETE_JOB_NOT_FOUND + jobId);
+                });
+    }
+
+    /**
+     * Queues again the delete jobs that were pending or running when the
+     * service stopped; they carry on from their last checkpoint. With several
+     * instances, a job is only run by the instance that claims it, and a
+     * running job only once it has not been updated for
+     * {@link #DELETE_JOB_LEASE}.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public final void resumeDeleteJobs() {
+        List<CategoryDeleteJob> jobs = deleteJobRepository.findByStatusIn(
+                EnumSet.of(DeleteJobStatus.PENDING, DeleteJobStatus.RUNNING));
+        if (!jobs.isEmpty()) {
+            LOGGER.info(CategoryLoggerMessages.DELETE_JOBS_RESUMED,
+                    jobs.size());
+            jobs.forEach(job -> submitDeleteJob(job.getJobId()));
+        }
+    }
+
+    /**
+     * Hands a delete job to the delete executor.
+     * @param jobId The ID of the job.
+     */
+    private void submitDeleteJob(final int jobId) {
+        deleteJobExecutor.execute(() -> runDeleteJob(jobId));
+    }
+
+    /**
+     * Runs a delete job: deletes the quizzes of the category in chunks of
+     * {@link #DELETE_CHUNK_SIZE}, saving the count after each chunk, then
+     * deletes the category. Every chunk is its own batch delete in the quiz
+     * service, so a failure loses no finished chunk and the job can resume
+     * where it stopped. The job is first claimed, so that it is not run by
+     * two instances at once.
+     * @param jobId The ID of the job.
+     */
+    private void runDeleteJob(final int jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (deleteJobRepository.claim(jobId, now,
+                now.minus(DELETE_JOB_LEASE)) == 0) {
+            LOGGER.info(CategoryLoggerMessages.DELETE_JOB_NOT_CLAIMED, jobId);
+            return;
+        }
+        Optional<CategoryDeleteJob> foundJob =
+                deleteJobRepository.findById(jobId);
+        if (foundJob.isEmpty()) {
+            return;
+        }
+        CategoryDeleteJob job = foundJob.get();
+        int categoryId = job.getCategoryId();
+        LOGGER.info(CategoryLoggerMessages.DELETE_JOB_STARTED, jobId,
+                categoryId);
+        try {
+            int deleted;
+            do {
+                deleted = quizService.deleteQuizChunk(categoryId,
+                        DELETE_CHUNK_SIZE);
+                if (deleted > 0) {
+                    job.setQuizzesDeleted(job.getQuizzesDeleted() + deleted);
+                    job = deleteJobRepository.save(job);
+                }
+            } while (deleted == DELETE_CHUNK_SIZE);
+
+            categoryRepository.findById(categoryId)
+                    .ifPresent(categoryRepository::delete);
+            categoryCache.evict(categoryId);
+            categoryListCache.evict(ALL_CATEGORIES_KEY);
+            publishCategoryChanged(categoryId);
+            job.setStatus(DeleteJobStatus.COMPLETED);
+            LOGGER.info(CategoryLoggerMessages.DELETE_JOB_COMPLETED, jobId,
+                    categoryId, job.getQuizzesDeleted());
+        } catch (RuntimeException exception) {
+            String error = String.valueOf(exception.getMessage());
+            job.setStatus(DeleteJobStatus.FAILED);
+            job.setError(error.substring(0,
+                    Math.min(error.length(), CategoryDeleteJob.ERROR_LENGTH)));
+            LOGGER.error(CategoryLoggerMessages.DELETE_JOB_FAILED, jobId,
+                    job.getQuizzesDeleted(), error);
+        }
+        deleteJobRepository.save(job);
     }
 
  
@@ -174,6 +411,8 @@ public class CategoryServiceImpl implements CategoryService {
 
             existingCategory.setEnabled(true);
             categoryRepository.save(existingCategory);
+            writeThrough(existingCategory);
+            publishCategoryChanged(categoryId);
             return true;
 
     }
@@ -192,9 +431,68 @@ public class CategoryServiceImpl implements CategoryService {
 
             existingCategory.setEnabled(false);
             categoryRepository.save(existingCategory);
+            writeThrough(existingCategory);
+            publishCategoryChanged(categoryId);
             return false;
     }
 
+    /**
+     * Enables or disables categories in bulk with a single update statement.
+     * With cascade, all quizzes of the categories are then updated by the
+     * quiz service, again with a single statement; if that call fails the
+     * exception is thrown after the categories are updated, and the request
+     * can be repeated.
+     * @param categoryIds The IDs of the categories.
+     * @param enabled Whether the categories are enabled.
+     * @param cascade Whether all quizzes of the categories are updated too.
+     * @return The number of updated categories.
+     */
+    @Override
+    public final int setCategoriesEnabled(final Set<Integer> categoryIds,
+            final boolean enabled, final boolean cascade) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return 0;
+        }
+        int updated = categoryRepository.updateEnabledByCategoryIdIn(
+                categoryIds, enabled);
+        categoryIds.forEach(categoryCache::evict);
+        categoryListCache.evict(ALL_CATEGORIES_KEY);
+        categoryIds.forEach(this::publishCategoryChanged);
+        if (cascade) {
+            int quizzes = enabled
+                    ? quizService.enableQuizzesOfCategories(categoryIds)
+                    : quizService.disableQuizzesOfCategories(categoryIds);
+            LOGGER.info(CategoryLoggerMessages.QUIZZES_OF_CATEGORIES_UPDATED,
+                    enabled, quizzes, categoryIds);
+        }
+        return updated;
+    }
+
+    /**
+     * Writes a saved category through to the category cache and drops the
+     * cached list of all categories.
+     * @param category The saved category.
+     */
+    private void writeThrough(final Category category) {
+        categoryCache.put(category.getCategoryId(), entityToDTO(category));
+        categoryListCache.evict(ALL_CATEGORIES_KEY);
+    }
+
+    /**
+     * Tells the quiz service that a category has changed, so that it drops
+     * the category from its cache. A failed notification is only logged; the
+     * stale entry then lives until it expires.
+     * @param categoryId The ID of the changed category.
+     */
+    private void publishCategoryChanged(final int categoryId) {
+        try {
+            quizService.evictCategory(categoryId);
+        } catch (RuntimeException exception) {
+            LOGGER.warn(CategoryLoggerMessages.CATEGORY_CACHE_EVICTION_FAILED,
+                    categoryId, exception.getMessage());
+        }
+    }
+
     
     /**
      * Converts UserDTO to User entity.
@@ -202,7 +500,7 @@ public class CategoryServiceImpl implements CategoryService {
      * @return Category object.
      */
     final Category dtoToEntity(final CategoryDto categoryDto) {
-        return this.modelMapper.map(categoryDto, Category.class);
+        return categoryMapper.toEntity(categoryDto);
     }
 
     /**
@@ -211,7 +509,7 @@ public class CategoryServiceImpl implements CategoryService {
      * @return CategoryDto object.
      */
     final CategoryDto entityToDTO(final Category category) {
-        return this.modelMapper.map(category, CategoryDto.class);
+        return categoryMapper.toDto(category);
     }
 
 }
@@ -0,0 +1,57 @@
+package com.krishna.category.utility;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * This class represents a cached response body together with its entity
+ * tag, a hash of the body's JSON form.
+ * @param <T> The type of the body.
+ */
+public class CachedResponse<T> {
+
+    /**
+     * The cached body.
+     */
+    private final T body;
+
+    /**
+     * The entity tag of the body, without quotes.
+     */
+    private final String etag;
+
+    /**
+     * Constructs a cached response.
+     * @param value The cached body.
+     * @param tag The entity tag of the body.
+     */
+    public CachedResponse(final T value, final String tag) {
+        this.body = value;
+        this.etag = tag;
+    }
+
+    /**
+     * Getter for the cached body.
+     * @return the body.
+     */
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * Getter for the entity tag.
+     * @return the entity tag, without quotes.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Converts this into a 200 response carrying the ETag header. For a GET
+     * whose If-None-Match matches the tag, Spring MVC turns it into a 304
+     * without writing the body.
+     * @return the response entity.
+     */
+    public ResponseEntity<T> toResponseEntity() {
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
+}
@@ -47,6 +47,12 @@ public final class CategoryLoggerMessages {
     public static final String CATEGORY_RETRIEVED_SUCCESSFULLY =
             "Category retrieved successfully.";
 
+    /**
+     * Log message for receiving a request to get categories by a set of Ids.
+     */
+    public static final String GET_CATEGORIES_BY_IDS_REQUEST =
+            "Received a request to get categories by Ids, count: ";
+
     /**
      * Log message for receiving a request to update a Category.
      */
@@ -70,6 +76,75 @@ public final class CategoryLoggerMessages {
      */
     public static final String CATEGORY_DELETED_SUCCESSFULLY =
             "Category Deleted Successfully.";
+
+    /**
+     * Log message indicating that the quiz service could not be told to drop
+     * a changed category from its cache.
+     */
+    public static final String CATEGORY_CACHE_EVICTION_FAILED =
+            "Could not evict category {} from the quiz service cache: {}";
+
+    /**
+     * Log message indicating that a category delete job has started.
+     */
+    public static final String DELETE_JOB_STARTED =
+            "Delete job {} started for category {}";
+
+    /**
+     * Log message indicating that a category delete job has completed.
+     */
+    public static final String DELETE_JOB_COMPLETED =
+            "Delete job {} deleted category {} and {} quizzes";
+
+    /**
+     * Log message indicating that a category delete job has failed.
+     */
+    public static final String DELETE_JOB_FAILED =
+            "Delete job {} failed after {} quizzes: {}";
+
+    /**
+     * Log message indicating that a delete job is run by another instance.
+     */
+    public static final String DELETE_JOB_NOT_CLAIMED =
+            "Delete job {} is completed or run by another instance";
+
+    /**
+     * Log message indicating that unfinished delete jobs are resumed.
+     */
+    public static final String DELETE_JOBS_RESUMED =
+            "Resuming {} unfinished category delete jobs";
+
+    /**
+     * Log message indicating a request to get a delete job.
+     */
+    public static final String GET_DELETE_JOB_REQUEST =
+            "Received a request to get delete job for Id: ";
+
+    /**
+     * Log message indicating that categories are enabled or disabled in
+     * bulk.
+     */
+    public static final String SET_CATEGORIES_ENABLED_REQUEST =
+            "Received a request to set enabled to {} for categories {}, "
+            + "cascading to their quizzes: {}";
+
+    /**
+     * Log message indicating that the quizzes of categories were updated.
+     */
+    public static final String QUIZZES_OF_CATEGORIES_UPDATED =
+            "Set enabled to {} for {} quizzes of categories {}";
+
+    /**
+     * Log message indicating that expected indexes are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes: {}";
+
+    /**
+     * Log message indicating that the expected indexes exist.
+     */
+    public static final String INDEXES_VERIFIED =
+            "All expected database indexes are present.";
     /**
      * Constructor to prevent the object creation.
      */
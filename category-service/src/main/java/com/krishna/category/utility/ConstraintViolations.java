@@ -0,0 +1,43 @@
+package com.krishna.category.utility;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Tells which constraint a rejected write violated, so that duplicates are
+ * detected by the database in the same round trip as the write instead of
+ * by a lookup before it.
+ */
+public final class ConstraintViolations {
+
+    /**
+     * Not instantiated.
+     */
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Checks whether a rejected write violated the given constraint. The
+     * name is looked for, ignoring case, in the constraint name reported by
+     * the driver, which MySQL prefixes with the table name.
+     * @param exception The exception thrown by the write.
+     * @param constraintName The name of the constraint.
+     * @return True if the constraint was violated.
+     */
+    public static boolean violates(
+            final DataIntegrityViolationException exception,
+            final String constraintName) {
+        String reported = null;
+        if (exception.getCause()
+                instanceof ConstraintViolationException violation) {
+            reported = violation.getConstraintName();
+        }
+        if (reported == null) {
+            reported = exception.getMostSpecificCause().getMessage();
+        }
+        return reported != null && reported.toLowerCase(Locale.ROOT)
+                .contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,124 @@
+package com.krishna.category.utility;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks at startup that the indexes behind the repository queries exist,
+ * and stops the service if one is missing, so that a skipped migration
+ * shows up as a failed start rather than as full table scans. An index
+ * matches when its leading columns are the expected ones. The check can be
+ * turned off with schema.verify-indexes=false.
+ */
+@Component
+public class IndexVerifier implements ApplicationRunner {
+
+    /**
+     * The expected indexes by table: the leading columns of each.
+     */
+    private static final Map<String, List<List<String>>> EXPECTED_INDEXES =
+            Map.of(
+            "category", List.of(List.of("category_name")),
+            "category_delete_job",
+            List.of(List.of("category_id"), List.of("status")));
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(IndexVerifier.class);
+
+    /**
+     * This is use to read the database metadata.
+     */
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Whether the check runs.
+     */
+    @Value("${schema.verify-indexes:true}")
+    private boolean enabled;
+
+    /**
+     * Verifies the expected indexes.
+     * @param args The application arguments, unused.
+     * @throws SQLException If the metadata cannot be read.
+     * @throws IllegalStateException If an expected index is missing.
+     */
+    @Override
+    public void run(final ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (Map.Entry<String, List<List<String>>> table
+                    : EXPECTED_INDEXES.entrySet()) {
+                List<List<String>> indexes =
+                        readIndexes(connection, table.getKey());
+                for (List<String> columns : table.getValue()) {
+                    if (indexes.stream().noneMatch(index -> index.size()
+                            >= columns.size() && index.subList(0,
+                                    columns.size()).equals(columns))) {
+                        missing.add(table.getKey() + columns);
+                    }
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            LOGGER.error(CategoryLoggerMessages.MISSING_INDEXES, missing);
+            throw new IllegalStateException(Message.MISSING_INDEXES + missing);
+        }
+        LOGGER.info(CategoryLoggerMessages.INDEXES_VERIFIED);
+    }
+
+    /**
+     * Reads the indexes of a table.
+     * @param connection The connection to read the metadata with.
+     * @param table The table name, in lower case.
+     * @return The lower case columns of every index, in index order.
+     * @throws SQLException If the metadata cannot be read.
+     */
+    private static List<List<String>> readIndexes(final Connection connection,
+            final String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String tableName = metaData.storesUpperCaseIdentifiers()
+                ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> indexes = new HashMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(connection.getCatalog(),
+                connection.getSchema(), tableName, false, true)) {
+            while (rows.next()) {
+                String index = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (index != null && column != null) {
+                    indexes.computeIfAbsent(index, name -> new TreeMap<>())
+                            .put(rows.getShort("ORDINAL_POSITION"),
+                                    column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        List<List<String>> columns = new ArrayList<>();
+        indexes.values().forEach(index ->
+                columns.add(List.copyOf(index.values())));
+        return columns;
+    }
+}
@@ -192,6 +192,18 @@ public final class Message {
     public static final String REPORT_NOT_FOUND =
             "Report does not exist.";
 
+    /**
+     * Error message indicating that a category delete job does not exist.
+     */
+    public static final String DELETE_JOB_NOT_FOUND =
+            "Delete job does not exist with id : ";
+
+    /**
+     * Error message indicating that indexes the queries rely on are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes, run the migrations: ";
+
     private Message() {
     }
 }
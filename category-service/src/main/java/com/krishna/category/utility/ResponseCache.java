@@ -0,0 +1,187 @@
+package com.krishna.category.utility;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * This class caches read responses of this service by key, together with
+ * an entity tag computed once from their JSON form. Every write of this
+ * instance puts or evicts the affected keys; entries also expire after a
+ * fixed time to live, which bounds how long another instance of the service
+ * serves a value written elsewhere. The least recently used entry is
+ * evicted once the cache holds more than its maximum size.
+ * A load that overlaps with a write is returned but not cached, so a value
+ * read before the write can never replace the written one.
+ * @param <K> The type of the keys.
+ * @param <V> The type of the cached bodies.
+ */
+public class ResponseCache<K, V> {
+
+    /**
+     * This is use to serialize bodies for their entity tag.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The maximum number of entries.
+     */
+    private final int maxSize;
+
+    /**
+     * The time to live of an entry in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The cached responses, in least recently used order.
+     */
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * Incremented by every write, so that overlapping loads are discarded.
+     */
+    private long generation;
+
+    /**
+     * Constructs a response cache.
+     * @param mapper The object mapper used to compute entity tags.
+     * @param size The maximum number of entries.
+     * @param ttl The time to live of an entry.
+     */
+    public ResponseCache(final ObjectMapper mapper, final int size,
+            final Duration ttl) {
+        this.objectMapper = mapper;
+        this.maxSize = size;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response of a key, loading it on a miss.
+     * @param key The key to look up.
+     * @param loader Reads the body from the database.
+     * @return The cached or freshly loaded response.
+     */
+    public CachedResponse<V> get(final K key, final Supplier<V> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    /**
+     * Returns the cached response of a key, loading it on a miss and
+     * caching the loaded body only if it is cacheable.
+     * @param key The key to look up.
+     * @param loader Reads the body from the database.
+     * @param cacheable Tells whether a loaded body is kept.
+     * @return The cached or freshly loaded response.
+     */
+    public CachedResponse<V> get(final K key, final Supplier<V> loader,
+            final Predicate<V> cacheable) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> cached = entries.get(key);
+            if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+                return cached.response();
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+        V value = loader.get();
+        CachedResponse<V> loaded = new CachedResponse<>(value, etagOf(value));
+        if (cacheable.test(value)) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, entryOf(loaded));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Stores the body of a key that has just been written.
+     * @param key The key of the written value.
+     * @param value The written value.
+     */
+    public void put(final K key, final V value) {
+        CachedResponse<V> written = new CachedResponse<>(value, etagOf(value));
+        synchronized (this) {
+            generation++;
+            entries.put(key, entryOf(written));
+        }
+    }
+
+    /**
+     * Removes a key.
+     * @param key The key to remove.
+     */
+    public synchronized void evict(final K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every key whose body matches the predicate.
+     * @param predicate Selects the bodies to remove.
+     */
+    public synchronized void evictIf(final Predicate<V> predicate) {
+        generation++;
+        entries.values().removeIf(
+                cached -> predicate.test(cached.response().getBody()));
+    }
+
+    /**
+     * Getter for the number of entries.
+     * @return the number of entries, including expired ones not yet removed.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Wraps a response with its expiry.
+     * @param response The response to cache.
+     * @return the entry.
+     */
+    private Entry<V> entryOf(final CachedResponse<V> response) {
+        return new Entry<>(response, System.nanoTime() + ttlNanos);
+    }
+
+    /**
+     * Computes the entity tag of a body as the MD5 hash of its JSON form.
+     * @param value The body.
+     * @return the entity tag, without quotes.
+     */
+    private String etagOf(final V value) {
+        try {
+            return DigestUtils.md5DigestAsHex(
+                    objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * A cached response and the time it expires at.
+     * @param response The cached response.
+     * @param expiresAt The {@link System#nanoTime()} the response expires at.
+     * @param <T> The type of the body.
+     */
+    private record Entry<T>(CachedResponse<T> response, long expiresAt) {
+    }
+}
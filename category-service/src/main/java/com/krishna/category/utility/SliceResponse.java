@@ -0,0 +1,98 @@
+package com.krishna.category.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * This class represents one slice of a listing together with the cursor
+ * (the last ID of the slice) from which the next slice can be requested.
+ * @param <T> The type of the listed items.
+ */
+public class SliceResponse<T> {
+
+    /**
+     * Response header carrying the cursor of the next slice.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Number of items in a slice when no size is requested.
+     */
+    public static final int DEFAULT_SIZE = 50;
+
+    /**
+     * Largest slice size a client may request.
+     */
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * The items of this slice.
+     */
+    private final List<T> content;
+
+    /**
+     * The ID to pass as {@code after} for the next slice, or null when this
+     * is the last slice.
+     */
+    private final Integer nextCursor;
+
+    /**
+     * Constructs a slice response.
+     * @param items The items of this slice.
+     * @param cursor The cursor of the next slice, null if there is none.
+     */
+    public SliceResponse(final List<T> items, final Integer cursor) {
+        this.content = new ArrayList<>(items);
+        this.nextCursor = cursor;
+    }
+
+    /**
+     * Getter for the items of this slice.
+     * @return unmodifiable list of items.
+     */
+    public List<T> getContent() {
+        return Collections.unmodifiableList(content);
+    }
+
+    /**
+     * Getter for the cursor of the next slice.
+     * @return the next cursor, or null when this is the last slice.
+     */
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Builds the page request of a slice ordered by the given ID property.
+     * @param page The zero based page number, may be null.
+     * @param size The requested slice size, may be null.
+     * @param idProperty The ID property to order by.
+     * @return the page request, with the size capped at {@link #MAX_SIZE}.
+     */
+    public static Pageable pageRequest(final Integer page, final Integer size,
+            final String idProperty) {
+        int sliceSize = size == null ? DEFAULT_SIZE
+                : Math.max(1, Math.min(size, MAX_SIZE));
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        return PageRequest.of(pageNumber, sliceSize, Sort.by(idProperty));
+    }
+
+    /**
+     * Converts this slice into a response whose body is the item list and
+     * whose {@link #NEXT_CURSOR_HEADER} header holds the next cursor.
+     * @return the response entity.
+     */
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, String.valueOf(nextCursor));
+        }
+        return builder.body(getContent());
+    }
+}
@@ -0,0 +1,35 @@
+-- Tables of the category service, as Hibernate used to create them with
+-- ddl-auto: update. IF NOT EXISTS keeps databases created that way intact.
+
+create table if not exists category (
+    category_id integer not null,
+    category_name varchar(255) not null,
+    description varchar(255) not null,
+    enabled bit not null,
+    primary key (category_id)
+) engine=InnoDB;
+
+create table if not exists cat_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into cat_seq (next_val)
+select 3010 from dual where not exists (select 1 from cat_seq);
+
+create table if not exists category_delete_job (
+    job_id integer not null,
+    category_id integer not null,
+    status enum ('PENDING','RUNNING','COMPLETED','FAILED') not null,
+    quizzes_deleted integer not null,
+    error varchar(255),
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (job_id)
+) engine=InnoDB;
+
+create table if not exists delete_job_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into delete_job_seq (next_val)
+select 1 from dual where not exists (select 1 from delete_job_seq);
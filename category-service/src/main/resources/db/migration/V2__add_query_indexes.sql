@@ -0,0 +1,8 @@
+-- CategoryRepository.findByCategoryName.
+create index idx_category_category_name on category (category_name);
+
+-- CategoryDeleteJobRepository.findFirstByCategoryIdAndStatusNot.
+create index idx_delete_job_category_id on category_delete_job (category_id);
+
+-- CategoryDeleteJobRepository.findByStatusIn, run at every startup.
+create index idx_delete_job_status on category_delete_job (status);
@@ -0,0 +1,5 @@
+-- Category names are unique. The constraint replaces the plain name index and
+-- is what addCategory and updateCategory rely on to reject a duplicate name.
+alter table category
+    drop index idx_category_category_name,
+    add constraint uk_category_category_name unique (category_name);
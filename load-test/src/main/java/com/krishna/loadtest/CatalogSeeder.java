@@ -0,0 +1,184 @@
+package com.krishna.loadtest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Fills the empty stack through the gateway with users, categories,
+ * quizzes, questions and one report per user, so that every route of the
+ * workload has data to return.
+ */
+final class CatalogSeeder {
+
+    /**
+     * The IDs and emails the workload draws from.
+     * @param categoryIds The IDs of the seeded categories.
+     * @param quizIds The IDs of the seeded quizzes.
+     * @param emails The emails of the seeded users.
+     */
+    record Catalog(List<Integer> categoryIds, List<Integer> quizIds,
+            List<String> emails) {
+    }
+
+    /**
+     * The JSON type of a list of objects.
+     */
+    private static final TypeReference<List<Map<String, Object>>> LIST =
+            new TypeReference<>() {
+            };
+
+    /**
+     * The JSON type of an object.
+     */
+    private static final TypeReference<Map<String, Object>> OBJECT =
+            new TypeReference<>() {
+            };
+
+    /**
+     * The format of the report dates.
+     */
+    static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(CatalogSeeder.class);
+
+    /**
+     * The client used to send the seed requests.
+     */
+    private final GatewayClient client;
+
+    /**
+     * The amounts of data to seed.
+     */
+    private final Settings settings;
+
+    /**
+     * Constructs a seeder.
+     * @param gatewayClient The client used to send the seed requests.
+     * @param runSettings The amounts of data to seed.
+     */
+    CatalogSeeder(final GatewayClient gatewayClient,
+            final Settings runSettings) {
+        this.client = gatewayClient;
+        this.settings = runSettings;
+    }
+
+    /**
+     * Seeds the data.
+     * @return The seeded IDs and emails.
+     * @throws IOException If a seed request fails.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    Catalog seed() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < settings.accounts(); i++) {
+            String email = "student" + i + "@nucleusteq.com";
+            client.exchange("POST", "/users/save", Map.of(
+                    "firstName", "Student",
+                    "lastName", "Number" + i,
+                    "mobileNumber", String.valueOf(9_000_000_000L + i),
+                    "userRole", "user",
+                    "email", email,
+                    "password", "Student@123"), OBJECT);
+            emails.add(email);
+        }
+
+        for (int i = 0; i < settings.categories(); i++) {
+            client.exchange("POST", "/category/save", Map.of(
+                    "categoryName", "Category " + i,
+                    "description", "Load test category " + i,
+                    "enabled", true), OBJECT);
+        }
+        List<Integer> categoryIds = ids(
+                client.exchange("GET", "/category", null, LIST),
+                "categoryId");
+
+        for (int categoryId : categoryIds) {
+            for (int i = 0; i < settings.quizzesPerCategory(); i++) {
+                client.exchange("POST", "/quizzes/save", Map.of(
+                        "categoryId", categoryId,
+                        "quizName", "Quiz " + categoryId + "-" + i,
+                        "quizDescription", "Load test quiz",
+                        "timeInMinutes", 30,
+                        "enabled", true), OBJECT);
+            }
+        }
+        List<Integer> quizIds = ids(
+                client.exchange("GET", "/quizzes", null, LIST), "quizId");
+
+        for (int quizId : quizIds) {
+            for (int i = 0; i < settings.questionsPerQuiz(); i++) {
+                client.exchange("POST", "/api/questions/add", Map.of(
+                        "quizId", quizId,
+                        "questionText", "Question " + i + " of quiz " + quizId,
+                        "options", Map.of(
+                                "optionOne", "A" + i,
+                                "optionTwo", "B" + i,
+                                "optionThree", "C" + i,
+                                "optionFour", "D" + i,
+                                "correctOption", "A" + i)), OBJECT);
+            }
+        }
+
+        for (int i = 0; i < emails.size(); i++) {
+            client.exchange("POST", "/api/reports", report(emails.get(i),
+                    quizIds.get(i % quizIds.size()), i), OBJECT);
+        }
+        LOGGER.info("Seeded {} users, {} categories, {} quizzes and {} "
+                + "questions in {} ms", emails.size(), categoryIds.size(),
+                quizIds.size(), quizIds.size() * settings.questionsPerQuiz(),
+                (System.nanoTime() - started) / 1_000_000);
+        return new Catalog(categoryIds, quizIds, emails);
+    }
+
+    /**
+     * Builds a submitted report.
+     * @param email The email of the user.
+     * @param quizId The ID of the quiz.
+     * @param seed Varies the marks.
+     * @return The report request body.
+     */
+    static Map<String, Object> report(final String email, final int quizId,
+            final int seed) {
+        int total = 20;
+        int obtained = Math.floorMod(seed, total + 1);
+        return Map.of(
+                "userEmailId", email,
+                "quizId", quizId,
+                "totalMarks", total,
+                "marksObtained", obtained,
+                "wrongAnswers", total - obtained,
+                "totalQuestions", total,
+                "attemptedQuestions", total,
+                "dateAndTime", LocalDateTime.now().format(DATE_FORMAT));
+    }
+
+    /**
+     * Reads the IDs out of a list response.
+     * @param items The listed objects.
+     * @param idField The name of the ID field.
+     * @return The IDs, in list order.
+     */
+    private static List<Integer> ids(final List<Map<String, Object>> items,
+            final String idField) {
+        List<Integer> ids = new ArrayList<>();
+        for (Map<String, Object> item : items) {
+            ids.add(((Number) item.get(idField)).intValue());
+        }
+        return ids;
+    }
+}
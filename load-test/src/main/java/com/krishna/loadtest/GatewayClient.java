@@ -0,0 +1,116 @@
+package com.krishna.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Sends JSON requests to the gateway, the way the front end does.
+ */
+final class GatewayClient {
+
+    /**
+     * The longest a single request may take before it counts as failed.
+     */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * The base URI of the gateway.
+     */
+    private final URI gateway;
+
+    /**
+     * The bearer token sent with every request.
+     */
+    private final String token;
+
+    /**
+     * The shared HTTP client, keeping connections alive between requests.
+     */
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    /**
+     * This is use to write request bodies and read responses.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Constructs a client of the given gateway.
+     * @param gatewayUri The base URI of the gateway.
+     * @param bearerToken The bearer token sent with every request.
+     */
+    GatewayClient(final URI gatewayUri, final String bearerToken) {
+        this.gateway = gatewayUri;
+        this.token = bearerToken;
+    }
+
+    /**
+     * Sends a request.
+     * @param method The HTTP method.
+     * @param path The path, starting with a slash.
+     * @param body The body, written as JSON, or null for none.
+     * @return The response.
+     * @throws IOException If the request fails.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    HttpResponse<byte[]> send(final String method, final String path,
+            final Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest
+                .newBuilder(gateway.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token);
+        if (body == null) {
+            request.method(method, BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(body)));
+        }
+        return httpClient.send(request.build(), BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Sends a request that must succeed and reads its JSON response.
+     * @param method The HTTP method.
+     * @param path The path, starting with a slash.
+     * @param body The body, written as JSON, or null for none.
+     * @param type The type of the response.
+     * @param <T> The type of the response.
+     * @return The response body.
+     * @throws IOException If the request fails or is not successful.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    <T> T exchange(final String method, final String path, final Object body,
+            final TypeReference<T> type)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send(method, path, body);
+        if (!isSuccess(response)) {
+            throw new IOException(method + " " + path + " returned "
+                    + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    /**
+     * Tells whether a response is a success, including 304 (Not Modified).
+     * @param response The response.
+     * @return Whether the status is 2xx or 304.
+     */
+    static boolean isSuccess(final HttpResponse<?> response) {
+        int status = response.statusCode();
+        return status / 100 == 2 || status == 304;
+    }
+}
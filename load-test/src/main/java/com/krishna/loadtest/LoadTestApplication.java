@@ -0,0 +1,93 @@
+package com.krishna.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.krishna.loadtest.CatalogSeeder.Catalog;
+
+/**
+ * Starts the platform in one JVM, seeds it, runs the workload through the
+ * gateway and prints p50, p99 and throughput per route. Arguments, all
+ * optional: --users, --warmup, --duration, --accounts, --categories,
+ * --quizzes-per-category, --questions-per-quiz and --output.
+ */
+public final class LoadTestApplication {
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(LoadTestApplication.class);
+
+    /**
+     * Not instantiated.
+     */
+    private LoadTestApplication() {
+    }
+
+    /**
+     * Runs the load test.
+     * @param args The settings, as --name=value.
+     * @throws Exception If the stack fails to start or to be seeded.
+     */
+    public static void main(final String[] args) throws Exception {
+        Settings settings = Settings.parse(args);
+        List<RouteStats.Summary> summaries;
+        try (ServiceStack stack = ServiceStack.start()) {
+            GatewayClient client = new GatewayClient(stack.gatewayUri(),
+                    stack.issueToken("load-test", settings.warmup()
+                            .plus(settings.duration()).plusHours(1)));
+            Catalog catalog = new CatalogSeeder(client, settings).seed();
+            summaries = new Workload(client, catalog, settings).run();
+        }
+        print(summaries);
+        write(summaries, settings);
+        LOGGER.info("Results written to {}", settings.output());
+    }
+
+    /**
+     * Prints the results as a table.
+     * @param summaries The summary of every route.
+     */
+    private static void print(final List<RouteStats.Summary> summaries) {
+        String format = "%-40s %9s %7s %9s %9s %9s %9s%n";
+        System.out.printf(format, "route", "requests", "errors", "req/s",
+                "p50 ms", "p99 ms", "max ms");
+        for (RouteStats.Summary summary : summaries) {
+            System.out.printf(Locale.ROOT,
+                    "%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                    summary.route(), summary.requests(), summary.errors(),
+                    summary.throughput(), summary.p50Millis(),
+                    summary.p99Millis(), summary.maxMillis());
+        }
+    }
+
+    /**
+     * Writes the results as CSV, together with the settings of the run, so
+     * runs can be compared.
+     * @param summaries The summary of every route.
+     * @param settings The settings of the run.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void write(final List<RouteStats.Summary> summaries,
+            final Settings settings) throws IOException {
+        try (PrintWriter out = new PrintWriter(
+                Files.newBufferedWriter(settings.output()))) {
+            out.println("route,requests,errors,throughput,p50_ms,p99_ms,"
+                    + "max_ms,users,duration_s");
+            for (RouteStats.Summary summary : summaries) {
+                out.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%d,%d%n",
+                        summary.route(), summary.requests(), summary.errors(),
+                        summary.throughput(), summary.p50Millis(),
+                        summary.p99Millis(), summary.maxMillis(),
+                        settings.users(), settings.duration().toSeconds());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.krishna.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * The latencies and errors recorded for one route.
+ */
+final class RouteStats {
+
+    /**
+     * The summary of a route over the measured period.
+     * @param route The route, as method and path template.
+     * @param requests The number of completed requests.
+     * @param errors The number of failed requests.
+     * @param throughput The requests per second.
+     * @param p50Millis The median latency in milliseconds.
+     * @param p99Millis The 99th percentile latency in milliseconds.
+     * @param maxMillis The highest latency in milliseconds.
+     */
+    record Summary(String route, int requests, long errors, double throughput,
+            double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * The route, as method and path template.
+     */
+    private final String route;
+
+    /**
+     * The recorded latencies in nanoseconds; only the first
+     * {@link #count} are used.
+     */
+    private long[] latencies = new long[1024];
+
+    /**
+     * The number of recorded latencies.
+     */
+    private int count;
+
+    /**
+     * The number of failed requests.
+     */
+    private long errors;
+
+    /**
+     * Constructs the statistics of a route.
+     * @param routeName The route, as method and path template.
+     */
+    RouteStats(final String routeName) {
+        this.route = routeName;
+    }
+
+    /**
+     * Records a completed request.
+     * @param nanos The latency of the request.
+     * @param success Whether the request succeeded.
+     */
+    synchronized void record(final long nanos, final boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Summarizes the recorded requests.
+     * @param measured The length of the measured period.
+     * @return The summary.
+     */
+    synchronized Summary summarize(final Duration measured) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double seconds = measured.toNanos() / 1e9;
+        return new Summary(route, count, errors, count / seconds,
+                millis(percentile(sorted, 50)),
+                millis(percentile(sorted, 99)),
+                millis(count == 0 ? 0 : sorted[count - 1]));
+    }
+
+    /**
+     * Reads a percentile with the nearest-rank method.
+     * @param sorted The latencies, sorted.
+     * @param percent The percentile.
+     * @return The latency at the percentile, or 0 if none were recorded.
+     */
+    private static long percentile(final long[] sorted, final int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds.
+     * @param nanos The nanoseconds.
+     * @return The milliseconds.
+     */
+    private static double millis(final long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,230 @@
+package com.krishna.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.krishna.category.CategoryServiceApplication;
+import com.krishna.gateway.ApiGatewayApplication;
+import com.krishna.question.QuestionServiceApplication;
+import com.krishna.quiz.QuizServiceApplication;
+import com.krishna.reg.RegistrationServiceApplication;
+import com.krishna.report.ReportServiceApplication;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Runs the gateway and the services in this JVM, each in its own Spring
+ * context on a free port and its own in-memory database. Eureka is replaced
+ * by the simple discovery client: every context gets the address of every
+ * service under both the upper case name used by the Feign clients and the
+ * gateway, and the lower case one used by the category service.
+ */
+final class ServiceStack implements AutoCloseable {
+
+    /**
+     * The services of the stack, in start order; the gateway goes last.
+     */
+    private enum Service {
+
+        /**
+         * The registration service.
+         */
+        REGISTRATION("registration-service",
+                RegistrationServiceApplication.class),
+
+        /**
+         * The category service.
+         */
+        CATEGORY("category-service", CategoryServiceApplication.class),
+
+        /**
+         * The quiz service.
+         */
+        QUIZ("quiz-service", QuizServiceApplication.class),
+
+        /**
+         * The question service.
+         */
+        QUESTION("question-service", QuestionServiceApplication.class),
+
+        /**
+         * The report service.
+         */
+        REPORT("report-service", ReportServiceApplication.class),
+
+        /**
+         * The API gateway.
+         */
+        GATEWAY("api-gateway", ApiGatewayApplication.class);
+
+        /**
+         * The service name, also the name of its file under stack/.
+         */
+        private final String serviceName;
+
+        /**
+         * The Spring Boot application class of the service.
+         */
+        private final Class<?> application;
+
+        Service(final String name, final Class<?> applicationClass) {
+            this.serviceName = name;
+            this.application = applicationClass;
+        }
+    }
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(ServiceStack.class);
+
+    /**
+     * The port of every service.
+     */
+    private final Map<Service, Integer> ports = new EnumMap<>(Service.class);
+
+    /**
+     * The key the gateway verifies tokens with, new for every run.
+     */
+    private final byte[] tokenKey = new byte[32];
+
+    /**
+     * The started contexts, in start order.
+     */
+    private final List<ConfigurableApplicationContext> contexts =
+            new ArrayList<>();
+
+    /**
+     * Picks the ports; nothing is started yet.
+     */
+    private ServiceStack() {
+        for (Service service : Service.values()) {
+            ports.put(service, freePort());
+        }
+        new SecureRandom().nextBytes(tokenKey);
+    }
+
+    /**
+     * Starts every service and returns once the gateway accepts requests.
+     * @return The running stack.
+     */
+    static ServiceStack start() {
+        ServiceStack stack = new ServiceStack();
+        try {
+            for (Service service : Service.values()) {
+                stack.start(service);
+            }
+        } catch (RuntimeException exception) {
+            stack.close();
+            throw exception;
+        }
+        return stack;
+    }
+
+    /**
+     * Getter for the gateway address.
+     * @return the base URI of the gateway.
+     */
+    URI gatewayUri() {
+        return URI.create("http://localhost:" + ports.get(Service.GATEWAY));
+    }
+
+    /**
+     * Issues a token the gateway accepts, as the auth service would.
+     * @param subject The subject of the token.
+     * @param validity How long the token is valid.
+     * @return The signed token.
+     */
+    String issueToken(final String subject, final Duration validity) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validity.toMillis()))
+                .signWith(Keys.hmacShaKeyFor(tokenKey))
+                .compact();
+    }
+
+    /**
+     * Stops the services, the gateway first.
+     */
+    @Override
+    public void close() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        contexts.clear();
+    }
+
+    /**
+     * Starts one service.
+     * @param service The service to start.
+     */
+    private void start(final Service service) {
+        long started = System.nanoTime();
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.location=classpath:/stack/common.yml,"
+                + "classpath:/stack/" + service.serviceName + ".yml");
+        args.add("--server.port=" + ports.get(service));
+        if (service == Service.GATEWAY) {
+            args.add("--gateway.auth.secret="
+                    + Base64.getEncoder().encodeToString(tokenKey));
+        }
+        for (Service peer : Service.values()) {
+            if (peer == Service.GATEWAY) {
+                continue;
+            }
+            String uri = "http://localhost:" + ports.get(peer);
+            args.add(instanceUri(peer.serviceName, uri));
+            args.add(instanceUri(
+                    peer.serviceName.toUpperCase(Locale.ROOT), uri));
+        }
+        contexts.add(new SpringApplicationBuilder(service.application)
+                .run(args.toArray(new String[0])));
+        LOGGER.info("Started {} on port {} in {} ms", service.serviceName,
+                ports.get(service), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Builds the simple discovery argument of a service. The name is
+     * bracketed so that its case is kept.
+     * @param serviceId The service ID looked up by the clients.
+     * @param uri The address of the service.
+     * @return The command line argument.
+     */
+    private static String instanceUri(final String serviceId,
+            final String uri) {
+        return "--spring.cloud.discovery.client.simple.instances["
+                + serviceId + "][0].uri=" + uri;
+    }
+
+    /**
+     * Finds a port nothing listens on.
+     * @return The port.
+     */
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
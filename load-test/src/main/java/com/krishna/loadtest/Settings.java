@@ -0,0 +1,56 @@
+package com.krishna.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * The settings of a load-test run, read from --name=value arguments.
+ * @param users The number of concurrent virtual users.
+ * @param warmup How long the workload runs before it is measured.
+ * @param duration How long the workload is measured.
+ * @param accounts The number of registered users to seed.
+ * @param categories The number of categories to seed.
+ * @param quizzesPerCategory The number of quizzes seeded per category.
+ * @param questionsPerQuiz The number of questions seeded per quiz.
+ * @param output The CSV file the results are written to.
+ */
+record Settings(int users, Duration warmup, Duration duration, int accounts,
+        int categories, int quizzesPerCategory, int questionsPerQuiz,
+        Path output) {
+
+    /**
+     * Reads the settings, using defaults for missing arguments.
+     * @param args The command line arguments.
+     * @return The settings.
+     */
+    static Settings parse(final String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException(
+                        "Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator),
+                    arg.substring(separator + 1));
+        }
+        return new Settings(
+                Integer.parseInt(values.getOrDefault("users", "16")),
+                DurationStyle.detectAndParse(
+                        values.getOrDefault("warmup", "15s")),
+                DurationStyle.detectAndParse(
+                        values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("accounts", "100")),
+                Integer.parseInt(values.getOrDefault("categories", "10")),
+                Integer.parseInt(
+                        values.getOrDefault("quizzes-per-category", "5")),
+                Integer.parseInt(
+                        values.getOrDefault("questions-per-quiz", "20")),
+                Path.of(values.getOrDefault("output",
+                        "load-test-results.csv")));
+    }
+}
@@ -0,0 +1,228 @@
+package com.krishna.loadtest;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.krishna.loadtest.CatalogSeeder.Catalog;
+
+/**
+ * Runs virtual users against the gateway. Each user loops over weighted
+ * actions mirroring the use of the platform until the run ends: most
+ * requests browse the catalog or open a quiz, fewer submit or read reports.
+ * Requests are recorded per route once the warmup is over.
+ */
+final class Workload {
+
+    /**
+     * What a virtual user does in one step, and how often.
+     */
+    private enum Action {
+
+        /**
+         * Lists the categories and the quizzes of one of them.
+         */
+        BROWSE_CATALOG(50),
+
+        /**
+         * Opens a quiz and loads its questions.
+         */
+        FETCH_QUIZ_QUESTIONS(30),
+
+        /**
+         * Submits the report of an attempted quiz.
+         */
+        SUBMIT_REPORT(10),
+
+        /**
+         * Reads the report history of a user.
+         */
+        VIEW_REPORT_HISTORY(10);
+
+        /**
+         * The relative frequency of the action.
+         */
+        private final int weight;
+
+        Action(final int actionWeight) {
+            this.weight = actionWeight;
+        }
+    }
+
+    /**
+     * The sum of the action weights.
+     */
+    private static final int TOTAL_WEIGHT = 100;
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(Workload.class);
+
+    /**
+     * The client used to send the requests.
+     */
+    private final GatewayClient client;
+
+    /**
+     * The seeded data the requests draw from.
+     */
+    private final Catalog catalog;
+
+    /**
+     * The number of users and the length of the run.
+     */
+    private final Settings settings;
+
+    /**
+     * The statistics by route.
+     */
+    private final Map<String, RouteStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link System#nanoTime()} from which requests are recorded.
+     */
+    private long measureFrom;
+
+    /**
+     * Constructs a workload.
+     * @param gatewayClient The client used to send the requests.
+     * @param seeded The seeded data the requests draw from.
+     * @param runSettings The number of users and the length of the run.
+     */
+    Workload(final GatewayClient gatewayClient, final Catalog seeded,
+            final Settings runSettings) {
+        this.client = gatewayClient;
+        this.catalog = seeded;
+        this.settings = runSettings;
+    }
+
+    /**
+     * Runs the workload for the warmup and the measured period.
+     * @return The summary of every route, sorted by route.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    List<RouteStats.Summary> run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        LOGGER.info("Running {} users for {} after a {} warmup",
+                settings.users(), settings.duration(), settings.warmup());
+
+        ExecutorService users = Executors.newFixedThreadPool(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            users.execute(() -> {
+                while (System.nanoTime() < end
+                        && !Thread.currentThread().isInterrupted()) {
+                    perform(nextAction());
+                }
+            });
+        }
+        users.shutdown();
+        Duration grace = settings.duration().plus(settings.warmup())
+                .plusMinutes(1);
+        if (!users.awaitTermination(grace.toMillis(),
+                TimeUnit.MILLISECONDS)) {
+            users.shutdownNow();
+        }
+
+        List<RouteStats.Summary> summaries = new ArrayList<>();
+        stats.values().forEach(route ->
+                summaries.add(route.summarize(settings.duration())));
+        summaries.sort((a, b) -> a.route().compareTo(b.route()));
+        return summaries;
+    }
+
+    /**
+     * Picks an action by weight.
+     * @return The action.
+     */
+    private static Action nextAction() {
+        int pick = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Action action : Action.values()) {
+            pick -= action.weight;
+            if (pick < 0) {
+                return action;
+            }
+        }
+        return Action.BROWSE_CATALOG;
+    }
+
+    /**
+     * Performs one action.
+     * @param action The action.
+     */
+    private void perform(final Action action) {
+        switch (action) {
+        case BROWSE_CATALOG:
+            call("GET /category", "GET", "/category", null);
+            call("GET /quizzes/categories/{categoryId}", "GET",
+                    "/quizzes/categories/" + pick(catalog.categoryIds()),
+                    null);
+            break;
+        case FETCH_QUIZ_QUESTIONS:
+            int quizId = pick(catalog.quizIds());
+            call("GET /quizzes/{quizId}", "GET", "/quizzes/" + quizId, null);
+            call("GET /api/questions/byquiz/{quizId}", "GET",
+                    "/api/questions/byquiz/" + quizId, null);
+            break;
+        case SUBMIT_REPORT:
+            call("POST /api/reports", "POST", "/api/reports",
+                    CatalogSeeder.report(pick(catalog.emails()),
+                            pick(catalog.quizIds()),
+                            ThreadLocalRandom.current().nextInt()));
+            break;
+        default:
+            call("GET /api/reports/{email}", "GET",
+                    "/api/reports/" + pick(catalog.emails()), null);
+            break;
+        }
+    }
+
+    /**
+     * Sends a request and records it under its route once measuring.
+     * @param route The route, as method and path template.
+     * @param method The HTTP method.
+     * @param path The path.
+     * @param body The body, or null for none.
+     */
+    private void call(final String route, final String method,
+            final String path, final Object body) {
+        long started = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<byte[]> response = client.send(method, path, body);
+            success = GatewayClient.isSuccess(response);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception exception) {
+            success = false;
+        }
+        if (started >= measureFrom) {
+            stats.computeIfAbsent(route, RouteStats::new)
+                    .record(System.nanoTime() - started, success);
+        }
+    }
+
+    /**
+     * Picks a random element.
+     * @param values The values to pick from.
+     * @param <T> The type of the values.
+     * @return The picked value.
+     */
+    private static <T> T pick(final List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
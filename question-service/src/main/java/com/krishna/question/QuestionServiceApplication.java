@@ -1,12 +1,18 @@
 package com.krishna.question;
 
+import java.time.Duration;
+
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 
+import com.krishna.question.dto.QuizDto;
+import com.krishna.question.utility.NearCache;
+
 @SpringBootApplication
 @EnableFeignClients
 @EnableDiscoveryClient
@@ -27,4 +33,17 @@ public class QuestionServiceApplication {
         return new ModelMapper();
     }
 
+    /**
+     * Creates the cache of quizzes fetched from the quiz service.
+     *
+     * @param maxSize The maximum number of cached quizzes.
+     * @param ttl     How long a quiz is served from the cache.
+     * @return The quiz near cache.
+     */
+    @Bean
+    public NearCache<Integer, QuizDto> quizCache(
+            @Value("${near-cache.quiz.max-size:1000}") final int maxSize,
+            @Value("${near-cache.quiz.ttl:10m}") final Duration ttl) {
+        return new NearCache<>("quiz", maxSize, ttl);
+    }
 }
@@ -1,12 +1,16 @@
 package com.krishna.question.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,12 +19,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.krishna.question.dto.QuestionDto;
+import com.krishna.question.dto.QuestionImportReport;
 import com.krishna.question.service.QuestionService;
+import com.krishna.question.utility.Message;
 import com.krishna.question.utility.QuestionLoggerMessage;
+import com.krishna.question.utility.SliceResponse;
 import com.krishna.question.utility.SuccessResponse;
 
 import jakarta.validation.Valid;
@@ -30,7 +39,7 @@ import jakarta.validation.Valid;
  * to. managing questions in the assessment platform. It provides end points
  * for. adding, updating, deleting, and retrieving questions.
  */
-@CrossOrigin
+@CrossOrigin(exposedHeaders = SliceResponse.NEXT_CURSOR_HEADER)
 @RestController
 @RequestMapping("/api/questions")
 public class QuestionController {
@@ -41,6 +50,11 @@ public class QuestionController {
     @Autowired
     private QuestionService questionService;
 
+    /**
+     * The media type of CSV imports.
+     */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     /**
      * this is logger object that is use to generate log.
      */
@@ -61,6 +75,30 @@ public class QuestionController {
         return new ResponseEntity<>(result, HttpStatus.CREATED);
     }
 
+    /**
+     * Imports many questions at once, from a JSON array of questions or from
+     * CSV with the header quizId,questionText,optionOne,optionTwo,
+     * optionThree,optionFour,correctOption. The body is read as a stream.
+     * @param contentType The type of the body, JSON or CSV.
+     * @param body The questions to import.
+     * @return The import report with HTTP status 201 (Created) when any
+     * question was saved, or 400 (Bad Request) otherwise.
+     * @throws IOException If the body cannot be read.
+     */
+    @PostMapping(value = "/import", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, TEXT_CSV_VALUE})
+    public final ResponseEntity<QuestionImportReport> importQuestions(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE)
+            final MediaType contentType,
+            final InputStream body) throws IOException {
+        LOGGER.info(QuestionLoggerMessage.IMPORT_QUESTIONS_REQUEST,
+                contentType);
+        QuestionImportReport report = questionService.importQuestions(body,
+                MediaType.valueOf(TEXT_CSV_VALUE).includes(contentType));
+        return new ResponseEntity<>(report, report.getImported() > 0
+                ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Updates an existing question in the assessment platform.
      * @param questionId  The ID of the question to be updated.
@@ -109,6 +147,24 @@ public class QuestionController {
        
     }
 
+    /**
+     * Deletes the questions of several quizzes with a single statement, so
+     * that deleting a category costs one call whatever its size.
+     * @param quizIds The IDs of the quizzes whose questions are deleted.
+     * @return A ResponseEntity with the number of deleted questions and HTTP
+     * status 200 (OK).
+     */
+    @DeleteMapping("/deletebyquizzes")
+    public final ResponseEntity<SuccessResponse> deleteQuestionsByQuizIds(
+            @RequestBody final List<Integer> quizIds) {
+        LOGGER.info(QuestionLoggerMessage.DELETE_QUESTIONS_BY_QUIZZES_REQUEST,
+                quizIds.size());
+        int deleted = questionService.deleteQuestionsByQuizIds(quizIds);
+        return new ResponseEntity<>(new SuccessResponse(HttpStatus.OK.value(),
+                deleted + Message.QUESTIONS_DELETED_FOR_QUIZZES),
+                HttpStatus.OK);
+    }
+
     /**
      * Retrieves a question by its unique ID.
      * @param questionId The ID of the question to be retrieved.
@@ -127,13 +183,24 @@ public class QuestionController {
     }
 
     /**
-     * Retrieves all questions available in the assessment platform.
+     * Retrieves all questions available in the assessment platform, or one
+     * slice of them when any of the paging parameters is given.
+     * @param page The zero based page number.
+     * @param size The number of questions per slice.
+     * @param after Only questions with a greater ID are returned.
      * @return A ResponseEntity containing a list of QuestionDto objects and.
      * HTTP status 200 (OK).
      */
     @GetMapping("/all")
-    public final ResponseEntity<List<QuestionDto>> getAllQuestions() {
+    public final ResponseEntity<List<QuestionDto>> getAllQuestions(
+            @RequestParam(required = false) final Integer page,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Integer after) {
         LOGGER.info(QuestionLoggerMessage.GET_ALL_QUESTIONS_REQUEST);
+        if (page != null || size != null || after != null) {
+            return questionService.getQuestionSlice(after, page, size)
+                    .toResponseEntity();
+        }
         List<QuestionDto> questions = questionService.getAllQuestion();
         LOGGER.info(
               QuestionLoggerMessage.LIST_OF_QUESTIONS_RETRIEVED_SUCCESSFULLY);
@@ -149,4 +216,32 @@ public class QuestionController {
               QuestionLoggerMessage.LIST_OF_QUESTIONS_RETRIEVED_SUCCESSFULLY);
         return new ResponseEntity<>(questions, HttpStatus.OK);
     }
+
+    /**
+     * Drops a quiz from the local quiz cache. Called by the quiz service
+     * whenever the quiz changes.
+     * @param quizId The ID of the changed quiz.
+     * @return An empty response with HTTP status 204 (No Content).
+     */
+    @DeleteMapping("/cache/quizzes/{quizId}")
+    public final ResponseEntity<Void> evictQuiz(
+            @PathVariable final int quizId) {
+        LOGGER.info(QuestionLoggerMessage.EVICT_QUIZ_REQUEST, quizId);
+        questionService.evictQuiz(quizId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    /**
+     * Drops several quizzes from the local quiz cache. Called by the quiz
+     * service after quizzes are changed in bulk.
+     * @param quizIds The IDs of the changed quizzes.
+     * @return An empty response with HTTP status 204 (No Content).
+     */
+    @DeleteMapping("/cache/quizzes")
+    public final ResponseEntity<Void> evictQuizzes(
+            @RequestBody final List<Integer> quizIds) {
+        LOGGER.info(QuestionLoggerMessage.EVICT_QUIZZES_REQUEST, quizIds);
+        questionService.evictQuizzes(quizIds);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
 }
@@ -0,0 +1,26 @@
+package com.krishna.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A row of a question import that was rejected, and why.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionImportError {
+
+    /**
+     * The one based position of the row in the import, header excluded.
+     */
+    private int row;
+
+    /**
+     * The reason the row was rejected.
+     */
+    private String message;
+}
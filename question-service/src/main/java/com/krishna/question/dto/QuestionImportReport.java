@@ -0,0 +1,42 @@
+package com.krishna.question.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The outcome of a question import: how many rows were read and saved, and
+ * the error of every rejected row.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class QuestionImportReport {
+
+    /**
+     * The number of rows read.
+     */
+    private int received;
+
+    /**
+     * The number of questions saved.
+     */
+    private int imported;
+
+    /**
+     * The rejected rows, in import order.
+     */
+    private List<QuestionImportError> errors = new ArrayList<>();
+
+    /**
+     * Records a rejected row.
+     * @param row The one based position of the row.
+     * @param message The reason the row was rejected.
+     */
+    public final void reject(final int row, final String message) {
+        errors.add(new QuestionImportError(row, message));
+    }
+}
@@ -7,7 +7,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -21,8 +23,11 @@ import lombok.Setter;
 @Setter
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_question_quiz_id",
+        columnList = "quizId"))
 @SequenceGenerator(name = "quistionSeq",
-initialValue = Question.ID_INITIAL_VALUE, allocationSize = 1)
+initialValue = Question.ID_INITIAL_VALUE,
+allocationSize = Question.ID_ALLOCATION_SIZE)
 public class Question {
 
     /**
@@ -30,6 +35,11 @@ public class Question {
      */
     public static final int ID_INITIAL_VALUE = 5010;
 
+    /**
+     * Constant for the number of question IDs reserved per sequence query.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * The ID of the question.
      */
@@ -0,0 +1,58 @@
+package com.krishna.question.externalService;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.krishna.question.dto.QuizDto;
+import com.krishna.question.utility.NearCache;
+
+/**
+ * Quiz lookups served from the local quiz cache, falling back to the quiz
+ * service on a miss. Cached quizzes are shared between callers and must not
+ * be modified.
+ */
+@Component
+public class CachedQuizService {
+
+    /**
+     * This is use to call the quiz service.
+     */
+    @Autowired
+    private QuizService quizService;
+
+    /**
+     * This is use to keep recently fetched quizzes.
+     */
+    @Autowired
+    private NearCache<Integer, QuizDto> quizCache;
+
+    /**
+     * Retrieves a quiz by its ID.
+     * @param quizId The ID of the quiz.
+     * @return The quizDto.
+     */
+    public QuizDto getQuizById(final Integer quizId) {
+        return quizCache.get(quizId, quizService::getQuizById);
+    }
+
+    /**
+     * Retrieves the quizzes matching the given IDs, fetching only the ones
+     * not cached with a single batch call.
+     * @param quizIds The IDs of the quizzes.
+     * @return A map of quiz ID to quizDto; unknown IDs are omitted.
+     */
+    public Map<Integer, QuizDto> getQuizzesByIds(final Set<Integer> quizIds) {
+        return quizCache.getAll(quizIds, quizService::getQuizzesByIds);
+    }
+
+    /**
+     * Removes a quiz from the cache after it has changed.
+     * @param quizId The ID of the changed quiz.
+     */
+    public void evict(final int quizId) {
+        quizCache.invalidate(quizId);
+    }
+}
@@ -1,8 +1,13 @@
 package com.krishna.question.externalService;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.krishna.question.dto.QuizDto;
 import com.krishna.question.errorHandler.CustomErrorDecoder;
@@ -14,4 +19,7 @@ public interface QuizService {
 
 	@GetMapping("quizzes/{quizId}")
 	QuizDto getQuizById(@PathVariable final Integer quizId);
+
+	@PostMapping("quizzes/batch")
+	Map<Integer, QuizDto> getQuizzesByIds(@RequestBody Set<Integer> quizIds);
 }
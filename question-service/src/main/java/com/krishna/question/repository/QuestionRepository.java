@@ -1,8 +1,15 @@
 package com.krishna.question.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.krishna.question.entity.Question;
 
@@ -19,5 +26,38 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
      * @return A List containing the found Questions entity, if any.
      */
 	List<Question> findByQuizId(int quizId);
+
+    /**
+     * Reads the columns of the questions of a quiz into rows, in ID order,
+     * without hydrating managed entities.
+     * @param quizId The ID of the quiz.
+     * @return The rows of its questions.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.krishna.question.repository.QuestionRow("
+            + "q.questionId, q.quizId, q.questionText, q.optionOne, "
+            + "q.optionTwo, q.optionThree, q.optionFour, q.correctOption) "
+            + "from Question q where q.quizId = :quizId order by q.questionId")
+    List<QuestionRow> findRowsByQuizId(@Param("quizId") int quizId);
+
+    /**
+     * Finds one slice of the questions whose ID is greater than the cursor.
+     * @param questionId The cursor; only questions after it are returned.
+     * @param pageable The size, page and ordering of the slice.
+     * @return A slice of questions, without a total count query.
+     */
+    Slice<Question> findByQuestionIdGreaterThan(int questionId,
+            Pageable pageable);
+
+    /**
+     * Deletes the questions of the given quizzes with a single statement,
+     * without loading them.
+     * @param quizIds The IDs of the quizzes whose questions are deleted.
+     * @return The number of deleted questions.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Question q where q.quizId in :quizIds")
+    int deleteAllByQuizIdInBatch(@Param("quizIds") Collection<Integer> quizIds);
 //    List<Question> findByQuiz(Quiz quiz);
 }
@@ -0,0 +1,19 @@
+package com.krishna.question.repository;
+
+/**
+ * The columns of a question that a questionDto is built from, selected
+ * straight into a record so list queries skip entity hydration and dirty
+ * checking.
+ * @param questionId The ID of the question.
+ * @param quizId The ID of the quiz of the question.
+ * @param questionText The text of the question.
+ * @param optionOne The first option.
+ * @param optionTwo The second option.
+ * @param optionThree The third option.
+ * @param optionFour The fourth option.
+ * @param correctOption The correct option.
+ */
+public record QuestionRow(int questionId, int quizId, String questionText,
+        String optionOne, String optionTwo, String optionThree,
+        String optionFour, String correctOption) {
+}
@@ -1,11 +1,16 @@
 package com.krishna.question.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.krishna.question.dto.QuestionDto;
+import com.krishna.question.dto.QuestionImportReport;
+import com.krishna.question.utility.SliceResponse;
 import com.krishna.question.utility.SuccessResponse;
 
 
@@ -22,6 +27,16 @@ public interface QuestionService {
      */
     SuccessResponse addQuestion(QuestionDto questionDto);
 
+    /**
+     * Imports many questions at once.
+     * @param body The questions, as a JSON array or as CSV.
+     * @param csv Whether the body is CSV rather than JSON.
+     * @return How many rows were read and saved, and the rejected rows.
+     * @throws IOException If the body cannot be read.
+     */
+    QuestionImportReport importQuestions(InputStream body, boolean csv)
+            throws IOException;
+
     /**
      * Updates a quiz.
      * @param questionId  The update the question information.
@@ -42,6 +57,14 @@ public interface QuestionService {
     SuccessResponse deleteQuestion(Integer questionId) throws NotFoundException;
 
     boolean deleteQuestionsByQuizId(int quizId);
+
+    /**
+     * Deletes the questions of several quizzes at once.
+     * @param quizIds The IDs of the quizzes whose questions are deleted.
+     * @return The number of deleted questions.
+     */
+    int deleteQuestionsByQuizIds(Collection<Integer> quizIds);
+
     /**
      * Retrieves a quiz by its ID.
      * @param questionId The ID of the question to retrieve.
@@ -56,6 +79,28 @@ public interface QuestionService {
      */
     List<QuestionDto> getAllQuestion();
 
+    /**
+     * Retrieves one slice of the questions ordered by ID.
+     * @param after Only questions with a greater ID are returned, may be null.
+     * @param page The zero based page number, may be null.
+     * @param size The slice size, may be null.
+     * @return The slice of questions and the cursor of the next slice.
+     */
+    SliceResponse<QuestionDto> getQuestionSlice(Integer after, Integer page,
+            Integer size);
+
 	List<QuestionDto> getQuestionByQuizId(int quizId);
 
+    /**
+     * Drops a changed quiz from the local quiz cache.
+     * @param quizId The ID of the changed quiz.
+     */
+    void evictQuiz(int quizId);
+
+    /**
+     * Drops several changed quizzes from the local quiz cache.
+     * @param quizIds The IDs of the changed quizzes.
+     */
+    void evictQuizzes(Collection<Integer> quizIds);
+
 }
@@ -1,7 +1,13 @@
 package com.krishna.question.service.implementation;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -11,21 +17,36 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.krishna.question.dto.QuestionDto;
+import com.krishna.question.dto.QuestionImportReport;
 import com.krishna.question.dto.QuizDto;
 import com.krishna.question.entity.Question;
 import com.krishna.question.entity.QuestionOptions;
 import com.krishna.question.exception.DuplicateOptionException;
 import com.krishna.question.exception.ResourceNotFoundException;
-import com.krishna.question.externalService.QuizService;
+import com.krishna.question.externalService.CachedQuizService;
 import com.krishna.question.repository.QuestionRepository;
+import com.krishna.question.repository.QuestionRow;
 import com.krishna.question.service.QuestionService;
 import com.krishna.question.utility.Message;
+import com.krishna.question.utility.QuestionLoggerMessage;
+import com.krishna.question.utility.SliceResponse;
 import com.krishna.question.utility.SuccessResponse;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 
 /**
  * This class, `QuestionServiceImpl`, is the implementation of the.
@@ -40,16 +61,28 @@ public class QuestionServiceImpl implements QuestionService {
     @Autowired
     private QuestionRepository questionRepository;
     /**
-     * this is use to call the quiz repository object.
+     * this is use to look up quizzes through the local quiz cache.
      */
     @Autowired
-    private QuizService quizService;
+    private CachedQuizService quizService;
     
     /**
      * This is use to map the category with Dto and viceversa..
      */
     @Autowired
     private ModelMapper modelMapper;
+
+    /**
+     * This is use to read JSON imports.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * This is use to check the constraints of imported questions.
+     */
+    @Autowired
+    private Validator validator;
     
     /**
      * Creating a instance of Logger Class.
@@ -62,6 +95,28 @@ public class QuestionServiceImpl implements QuestionService {
      */
     private static final int EXPECTED_NUMBER_OF_OPTIONS = 4;
 
+    /**
+     * The number of import rows validated and saved together; matches the
+     * JDBC batch size.
+     */
+    private static final int IMPORT_CHUNK_SIZE = 50;
+
+    /**
+     * Reads CSV imports as one map of column to value per row, with the
+     * column names taken from the header.
+     */
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerFor(Map.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    /**
+     * A valid import row waiting to be saved.
+     * @param row The one based position of the row.
+     * @param question The question to save.
+     */
+    private record ImportRow(int row, Question question) {
+    }
+
     /**
      * Adds a new question to the assessment platform.
      * @param questionDto The DTO (Data Transfer Object).
@@ -72,22 +127,12 @@ public class QuestionServiceImpl implements QuestionService {
 
         Question resQue = convertDtoToEntity(questionDto);
 
-        Set<String> optionSet = new HashSet<>();
-        optionSet.add(resQue.getOptionOne());
-        optionSet.add(resQue.getOptionTwo());
-        optionSet.add(resQue.getOptionThree());
-        optionSet.add(resQue.getOptionFour());
-
-        if (optionSet.size() < EXPECTED_NUMBER_OF_OPTIONS) {
+        if (hasDuplicateOptions(resQue)) {
           LOGGER.error(Message.DUPLICATE_OPTION_ERROR);
           throw new DuplicateOptionException(Message.DUPLICATE_OPTION_ERROR);
         }
 
-        String checkCorrectAnswer = resQue.getCorrectOption();
-        if (!checkCorrectAnswer.equals(resQue.getOptionOne())
-                && !checkCorrectAnswer.equals(resQue.getOptionTwo())
-                && !checkCorrectAnswer.equals(resQue.getOptionThree())
-                && !checkCorrectAnswer.equals(resQue.getOptionFour())) {
+        if (!hasListedCorrectOption(resQue)) {
             LOGGER.error(Message.CORRECT_OPTION_ERROR);
             throw new ResourceNotFoundException(
                     Message.CORRECT_OPTION_ERROR);
@@ -104,6 +149,178 @@ public class QuestionServiceImpl implements QuestionService {
 
     }
 
+    /**
+     * Imports questions from a JSON array of questions or from CSV with the
+     * header quizId,questionText,optionOne,optionTwo,optionThree,optionFour,
+     * correctOption. Rows are read one at a time and handled in chunks of
+     * {@link #IMPORT_CHUNK_SIZE}: each row is validated like
+     * {@link #addQuestion}, the quizzes of a chunk that were not seen before
+     * are resolved with one call, and the valid rows are saved in one JDBC
+     * batch. Invalid rows are reported and do not stop the import; malformed
+     * input stops it after the rows read so far.
+     * @param body The JSON or CSV to import.
+     * @param csv Whether the body is CSV rather than JSON.
+     * @return How many rows were read and saved, and the rejected rows.
+     * @throws IOException If the body cannot be read.
+     */
+    @Override
+    public final QuestionImportReport importQuestions(final InputStream body,
+            final boolean csv) throws IOException {
+        QuestionImportReport report = new QuestionImportReport();
+        Map<Integer, Boolean> knownQuizzes = new HashMap<>();
+        List<ImportRow> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        int row = 0;
+        ObjectReader reader = csv ? CSV_READER
+                : objectMapper.readerFor(QuestionDto.class);
+        try (MappingIterator<Object> rows = reader.readValues(body)) {
+            while (rows.hasNextValue()) {
+                row++;
+                QuestionDto questionDto;
+                try {
+                    questionDto = toQuestionDto(rows.nextValue(), csv);
+                } catch (JsonMappingException | IllegalArgumentException
+                        exception) {
+                    report.reject(row, exception.getMessage());
+                    continue;
+                }
+                String error = validateImportRow(questionDto);
+                if (error != null) {
+                    report.reject(row, error);
+                    continue;
+                }
+                chunk.add(new ImportRow(row, convertDtoToEntity(questionDto)));
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    saveImportChunk(chunk, knownQuizzes, report);
+                }
+            }
+        } catch (JsonProcessingException exception) {
+            report.reject(row + 1, Message.MALFORMED_IMPORT
+                    + exception.getOriginalMessage());
+        }
+        saveImportChunk(chunk, knownQuizzes, report);
+        report.setReceived(row);
+        LOGGER.info(QuestionLoggerMessage.QUESTIONS_IMPORTED,
+                report.getImported(), row, report.getErrors().size());
+        return report;
+    }
+
+    /**
+     * Converts a parsed import row to a question DTO.
+     * @param value The parsed row: a QuestionDto for JSON, a map of column
+     *              to value for CSV.
+     * @param csv Whether the row was read from CSV.
+     * @return The question DTO.
+     * @throws IllegalArgumentException If the quiz ID is not a number.
+     */
+    @SuppressWarnings("unchecked")
+    private static QuestionDto toQuestionDto(final Object value,
+            final boolean csv) {
+        if (!csv) {
+            return (QuestionDto) value;
+        }
+        Map<String, String> columns = (Map<String, String>) value;
+        QuestionDto questionDto = new QuestionDto();
+        String quizId = columns.get("quizId");
+        questionDto.setQuizId(quizId == null ? 0
+                : Integer.parseInt(quizId.trim()));
+        questionDto.setQuestionText(columns.get("questionText"));
+        questionDto.setOptions(new QuestionOptions(columns.get("optionOne"),
+                columns.get("optionTwo"), columns.get("optionThree"),
+                columns.get("optionFour"), columns.get("correctOption")));
+        return questionDto;
+    }
+
+    /**
+     * Validates an import row: its constraints, then the same option rules
+     * as {@link #addQuestion}.
+     * @param questionDto The row, null for a JSON null element.
+     * @return The reason the row is invalid, or null if it is valid.
+     */
+    private String validateImportRow(final QuestionDto questionDto) {
+        if (questionDto == null) {
+            return Message.IMPORT_ROW_EMPTY;
+        }
+        Set<ConstraintViolation<QuestionDto>> violations =
+                validator.validate(questionDto);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage)
+                    .sorted().collect(Collectors.joining(" "));
+        }
+        Question question = convertDtoToEntity(questionDto);
+        if (hasDuplicateOptions(question)) {
+            return Message.DUPLICATE_OPTION_ERROR;
+        }
+        if (!hasListedCorrectOption(question)) {
+            return Message.CORRECT_OPTION_ERROR;
+        }
+        return null;
+    }
+
+    /**
+     * Saves a chunk of valid import rows with one batch insert, after
+     * resolving the quizzes not seen in earlier chunks with one call. Rows
+     * of unknown quizzes are rejected. The chunk is cleared.
+     * @param chunk The valid rows.
+     * @param knownQuizzes Whether each quiz resolved so far exists.
+     * @param report The import report, updated with the outcome.
+     */
+    private void saveImportChunk(final List<ImportRow> chunk,
+            final Map<Integer, Boolean> knownQuizzes,
+            final QuestionImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<Integer> unresolved = chunk.stream()
+                .map(importRow -> importRow.question().getQuizId())
+                .filter(quizId -> !knownQuizzes.containsKey(quizId))
+                .collect(Collectors.toSet());
+        if (!unresolved.isEmpty()) {
+            Map<Integer, QuizDto> quizzes =
+                    quizService.getQuizzesByIds(unresolved);
+            unresolved.forEach(quizId ->
+                    knownQuizzes.put(quizId, quizzes.containsKey(quizId)));
+        }
+        List<Question> questions = new ArrayList<>(chunk.size());
+        for (ImportRow importRow : chunk) {
+            int quizId = importRow.question().getQuizId();
+            if (knownQuizzes.get(quizId)) {
+                questions.add(importRow.question());
+            } else {
+                report.reject(importRow.row(), Message.QUIZ_NOT_FOUND + quizId);
+            }
+        }
+        questionRepository.saveAll(questions);
+        report.setImported(report.getImported() + questions.size());
+        chunk.clear();
+    }
+
+    /**
+     * Checks whether a question repeats an option.
+     * @param question The question.
+     * @return true if two of its options are equal.
+     */
+    private static boolean hasDuplicateOptions(final Question question) {
+        Set<String> optionSet = new HashSet<>();
+        optionSet.add(question.getOptionOne());
+        optionSet.add(question.getOptionTwo());
+        optionSet.add(question.getOptionThree());
+        optionSet.add(question.getOptionFour());
+        return optionSet.size() < EXPECTED_NUMBER_OF_OPTIONS;
+    }
+
+    /**
+     * Checks whether the correct option of a question is one of its options.
+     * @param question The question.
+     * @return true if the correct option is listed.
+     */
+    private static boolean hasListedCorrectOption(final Question question) {
+        String checkCorrectAnswer = question.getCorrectOption();
+        return checkCorrectAnswer.equals(question.getOptionOne())
+                || checkCorrectAnswer.equals(question.getOptionTwo())
+                || checkCorrectAnswer.equals(question.getOptionThree())
+                || checkCorrectAnswer.equals(question.getOptionFour());
+    }
+
     /**
      * Updates an existing question in the assessment platform.
      * @param questionId  The ID of the question to be updated.
@@ -123,12 +340,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         Question updatedQuestion = convertDtoToEntity(questionDto);
-        String checkCorrectAnswer = updatedQuestion.getCorrectOption();
-        if (!checkCorrectAnswer.equals(updatedQuestion.getOptionOne())
-                && !checkCorrectAnswer.equals(updatedQuestion.getOptionTwo())
-                && !checkCorrectAnswer.equals(updatedQuestion.getOptionThree())
-                && !checkCorrectAnswer
-                        .equals(updatedQuestion.getOptionFour())) {
+        if (!hasListedCorrectOption(updatedQuestion)) {
             LOGGER.error(Message.CORRECT_OPTION_ERROR);
             throw new ResourceNotFoundException(
                     Message.CORRECT_OPTION_ERROR);
@@ -168,12 +380,25 @@ public class QuestionServiceImpl implements QuestionService {
     }
     
     public boolean deleteQuestionsByQuizId(int quizId) {
-        List<Question> questions = questionRepository.findByQuizId(quizId);
+        deleteQuestionsByQuizIds(List.of(quizId));
+        return true;
+    }
 
-        for (Question question : questions) {
-            questionRepository.delete(question);
+    /**
+     * Deletes the questions of several quizzes with one statement. The
+     * quizzes are being deleted, so they are dropped from the quiz cache too.
+     * @param quizIds The IDs of the quizzes whose questions are deleted.
+     * @return The number of deleted questions.
+     */
+    @Override
+    public final int deleteQuestionsByQuizIds(
+            final Collection<Integer> quizIds) {
+        if (quizIds.isEmpty()) {
+            return 0;
         }
-        return true;
+        int deleted = questionRepository.deleteAllByQuizIdInBatch(quizIds);
+        quizIds.forEach(quizService::evict);
+        return deleted;
     }
 
     /**
@@ -204,13 +429,15 @@ public class QuestionServiceImpl implements QuestionService {
     @Override
     public final List<QuestionDto> getQuestionByQuizId(final int quizId) {
       
-    	 List<Question> questions = questionRepository.findByQuizId(quizId);
-         
-         return questions.stream()
-                 .map(question -> {
-                     QuestionDto questionDto = convertEntityToDto(question);
-                     
-                     QuizDto quizDto = quizService.getQuizById(question.getQuizId());
+    	 List<QuestionRow> rows = questionRepository.findRowsByQuizId(quizId);
+         if (rows.isEmpty()) {
+             return new ArrayList<>();
+         }
+         QuizDto quizDto = quizService.getQuizById(quizId);
+
+         return rows.stream()
+                 .map(row -> {
+                     QuestionDto questionDto = convertRowToDto(row);
                      questionDto.setQuizDto(quizDto);
                      return questionDto;
                  })
@@ -218,6 +445,24 @@ public class QuestionServiceImpl implements QuestionService {
 
     }
     
+    /**
+     * Drops a changed quiz from the local quiz cache.
+     * @param quizId The ID of the changed quiz.
+     */
+    @Override
+    public final void evictQuiz(final int quizId) {
+        quizService.evict(quizId);
+    }
+
+    /**
+     * Drops several changed quizzes from the local quiz cache.
+     * @param quizIds The IDs of the changed quizzes.
+     */
+    @Override
+    public final void evictQuizzes(final Collection<Integer> quizIds) {
+        quizIds.forEach(quizService::evict);
+    }
+
     /**
      * Retrieves all questions available in the assessment platform.
      * @return A list of DTOs representing all available questions.
@@ -225,17 +470,53 @@ public class QuestionServiceImpl implements QuestionService {
     @Override
     public final List<QuestionDto> getAllQuestion() {
         List<Question> questions = questionRepository.findAll();
-        
+        return convertEntitiesToDtosWithQuiz(questions);
+    }
+
+    /**
+     * Retrieves one slice of the questions ordered by ID.
+     * @param after Only questions with a greater ID are returned, may be null.
+     * @param page The zero based page number, may be null.
+     * @param size The slice size, may be null.
+     * @return The slice of questions and the cursor of the next slice.
+     */
+    @Override
+    public final SliceResponse<QuestionDto> getQuestionSlice(
+            final Integer after, final Integer page, final Integer size) {
+        Slice<Question> slice = questionRepository.findByQuestionIdGreaterThan(
+                after == null ? 0 : after,
+                SliceResponse.pageRequest(page, size, "questionId"));
+        List<Question> questions = slice.getContent();
+        Integer nextCursor = slice.hasNext()
+                ? questions.get(questions.size() - 1).getQuestionId()
+                : null;
+        return new SliceResponse<>(convertEntitiesToDtosWithQuiz(questions),
+                nextCursor);
+    }
+
+    /**
+     * Converts questions to DTOs, fetching every distinct quiz they refer to
+     * with a single call to the quiz service.
+     * @param questions The questions to be converted.
+     * @return the converted QuestionDtos with their quiz attached.
+     */
+    private List<QuestionDto> convertEntitiesToDtosWithQuiz(
+            final List<Question> questions) {
+        if (questions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Integer> quizIds = questions.stream()
+                .map(Question::getQuizId)
+                .collect(Collectors.toSet());
+        Map<Integer, QuizDto> quizzes = quizService.getQuizzesByIds(quizIds);
+
         return questions.stream()
                 .map(question -> {
                     QuestionDto questionDto = convertEntityToDto(question);
-                    
-                    QuizDto quizDto = quizService.getQuizById(question.getQuizId());
-                    questionDto.setQuizDto(quizDto);
+                    questionDto.setQuizDto(quizzes.get(question.getQuizId()));
                     return questionDto;
                 })
                 .collect(Collectors.toList());
-        
     }
 
     /**
@@ -274,4 +555,20 @@ public class QuestionServiceImpl implements QuestionService {
         return questionDto;
     }
 
+    /**
+     * Converts a projected question row to a question DTO.
+     * @param row The question row to convert.
+     * @return The converted question DTO.
+     */
+    private QuestionDto convertRowToDto(final QuestionRow row) {
+        QuestionDto questionDto = new QuestionDto();
+        questionDto.setQuestionId(row.questionId());
+        questionDto.setQuizId(row.quizId());
+        questionDto.setQuestionText(row.questionText());
+        questionDto.setOptions(new QuestionOptions(row.optionOne(),
+                row.optionTwo(), row.optionThree(), row.optionFour(),
+                row.correctOption()));
+        return questionDto;
+    }
+
 }
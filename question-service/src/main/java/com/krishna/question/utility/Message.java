@@ -192,6 +192,30 @@ public final class Message {
     public static final String REPORT_NOT_FOUND =
             "Report does not exist.";
 
+    /**
+     * Success message indicating the deletion of the questions of quizzes.
+     */
+    public static final String QUESTIONS_DELETED_FOR_QUIZZES =
+            " questions deleted for the given quizzes.";
+
+    /**
+     * Error message indicating that an import body could not be parsed.
+     */
+    public static final String MALFORMED_IMPORT =
+            "Import stopped, the input is malformed: ";
+
+    /**
+     * Error message indicating that an import row is null.
+     */
+    public static final String IMPORT_ROW_EMPTY =
+            "The question must not be null.";
+
+    /**
+     * Error message indicating that indexes the queries rely on are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes, run the migrations: ";
+
     private Message() {
     }
 }
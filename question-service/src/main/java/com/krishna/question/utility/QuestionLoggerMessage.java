@@ -64,6 +64,50 @@ public final class QuestionLoggerMessage {
      */
     public static final String LIST_OF_QUESTIONS_RETRIEVED_SUCCESSFULLY =
             "List of Questions Retrieved Successfully.";
+
+    /**
+     * Log message indicating that a quiz is dropped from the cache.
+     */
+    public static final String EVICT_QUIZ_REQUEST =
+            "Received a request to evict cached quiz: {}";
+
+    /**
+     * Log message indicating that several quizzes are dropped from the
+     * cache.
+     */
+    public static final String EVICT_QUIZZES_REQUEST =
+            "Received a request to evict cached quizzes: {}";
+
+    /**
+     * Log message indicating that the questions of several quizzes are
+     * being deleted.
+     */
+    public static final String DELETE_QUESTIONS_BY_QUIZZES_REQUEST =
+            "Received a request to delete the questions of {} quizzes";
+
+    /**
+     * Log message indicating a request to import questions.
+     */
+    public static final String IMPORT_QUESTIONS_REQUEST =
+            "Received a request to import questions as {}";
+
+    /**
+     * Log message indicating the outcome of a question import.
+     */
+    public static final String QUESTIONS_IMPORTED =
+            "Imported {} of {} questions, {} rows rejected";
+
+    /**
+     * Log message indicating that expected indexes are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes: {}";
+
+    /**
+     * Log message indicating that the expected indexes exist.
+     */
+    public static final String INDEXES_VERIFIED =
+            "All expected database indexes are present.";
     /**
      * Constructor to prevent he object creation.
      */
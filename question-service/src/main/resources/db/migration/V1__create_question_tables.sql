@@ -0,0 +1,21 @@
+-- Tables of the question service, as Hibernate used to create them with
+-- ddl-auto: update. IF NOT EXISTS keeps databases created that way intact.
+
+create table if not exists question (
+    question_id integer not null,
+    quiz_id integer not null,
+    question_text varchar(255) not null,
+    option_one varchar(255) not null,
+    option_two varchar(255) not null,
+    option_three varchar(255),
+    option_four varchar(255),
+    correct_option varchar(255) not null,
+    primary key (question_id)
+) engine=InnoDB;
+
+create table if not exists quistion_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into quistion_seq (next_val)
+select 5010 from dual where not exists (select 1 from quistion_seq);
@@ -0,0 +1,2 @@
+-- QuestionRepository.findByQuizId and the bulk delete by quiz.
+create index idx_question_quiz_id on question (quiz_id);
@@ -1,12 +1,21 @@
 package com.krishna.quiz;
 
-import org.modelmapper.ModelMapper;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krishna.quiz.dto.CategoryDto;
+import com.krishna.quiz.dto.QuizDto;
+import com.krishna.quiz.utility.NearCache;
+import com.krishna.quiz.utility.ResponseCache;
+
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
@@ -16,14 +25,49 @@ public class QuizServiceApplication {
 		SpringApplication.run(QuizServiceApplication.class, args);
 	}
 
-	 /**
-     * Creates and returns an instance of ModelMapper, which is used for object
-     * mapping.
+    /**
+     * Creates the cache of categories fetched from the category service.
+     *
+     * @param maxSize The maximum number of cached categories.
+     * @param ttl     How long a category is served from the cache.
+     * @return The category near cache.
+     */
+    @Bean
+    public NearCache<Integer, CategoryDto> categoryCache(
+            @Value("${near-cache.category.max-size:1000}") final int maxSize,
+            @Value("${near-cache.category.ttl:10m}") final Duration ttl) {
+        return new NearCache<>("category", maxSize, ttl);
+    }
+
+    /**
+     * Creates the cache of quiz responses by ID.
+     *
+     * @param objectMapper The mapper used to compute entity tags.
+     * @param maxSize      The maximum number of cached responses.
+     * @param ttl          How long a response is served from the cache.
+     * @return The quiz response cache.
+     */
+    @Bean
+    public ResponseCache<Integer, QuizDto> quizCache(
+            final ObjectMapper objectMapper,
+            @Value("${response-cache.quiz.max-size:10000}") final int maxSize,
+            @Value("${response-cache.quiz.ttl:60s}") final Duration ttl) {
+        return new ResponseCache<>(objectMapper, maxSize, ttl);
+    }
+
+    /**
+     * Creates the cache of quiz list responses.
      *
-     * @return An instance of ModelMapper.
+     * @param objectMapper The mapper used to compute entity tags.
+     * @param maxSize      The maximum number of cached responses.
+     * @param ttl          How long a response is served from the cache.
+     * @return The quiz list response cache.
      */
     @Bean
-    public ModelMapper getModelMapper() {
-        return new ModelMapper();
+    public ResponseCache<String, List<QuizDto>> quizListCache(
+            final ObjectMapper objectMapper,
+            @Value("${response-cache.quiz-list.max-size:1000}") final int maxSize,
+            @Value("${response-cache.quiz-list.ttl:60s}") final Duration ttl) {
+        return new ResponseCache<>(objectMapper, maxSize, ttl);
     }
 }
@@ -1,11 +1,14 @@
 package com.krishna.quiz.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,11 +19,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.krishna.quiz.dto.QuizDto;
 import com.krishna.quiz.service.QuizService;
+import com.krishna.quiz.utility.CachedResponse;
 import com.krishna.quiz.utility.QuizLoggerMessage;
+import com.krishna.quiz.utility.SliceResponse;
 import com.krishna.quiz.utility.SuccessResponse;
 
 import jakarta.validation.Valid;
@@ -28,7 +34,8 @@ import jakarta.validation.Valid;
 /**
  * Controller class for managing Quizzes.
  */
-@CrossOrigin
+@CrossOrigin(exposedHeaders = {SliceResponse.NEXT_CURSOR_HEADER,
+        HttpHeaders.ETAG})
 @RestController
 @RequestMapping("/quizzes")
 public class QuizController {
@@ -98,28 +105,57 @@ public class QuizController {
     /**
      * Retrieves a quiz by its ID.
      * @param quizId The ID of the quiz to retrieve.
-     * @return The quizDto object representing the retrieved quiz.
+     * @return The quizDto object representing the retrieved quiz, with an
+     *         ETag; 304 (Not Modified) when it matches If-None-Match.
      * @throws NotFoundException If the user's email domain is invalid.
      */
     @GetMapping("/{quizId}")
     public final ResponseEntity<QuizDto> getQuizById(
             @PathVariable final Integer quizId) throws NotFoundException {
         LOGGER.info(QuizLoggerMessage.GET_QUIZ_BY_ID_REQUEST + quizId);
-        QuizDto quizDto = quizService.getQuizById(quizId);
+        CachedResponse<QuizDto> quizDto = quizService.getQuizById(quizId);
         LOGGER.info(QuizLoggerMessage.QUIZ_UPDATED_SUCCESSFULLY);
-        return new ResponseEntity<>(quizDto, HttpStatus.OK);
+        return quizDto.toResponseEntity();
     }
 
     /**
-     * Retrieves a list of all quizzes.
-     * @return A list of quizDto objects representing all quizzes.
+     * Retrieves several quizzes, with their categories, in a single call.
+     * @param quizIds The IDs of the quizzes to retrieve.
+     * @return A map of quiz ID to quizDto for every ID that exists.
+     */
+    @PostMapping("/batch")
+    public final ResponseEntity<Map<Integer, QuizDto>> getQuizzesByIds(
+            @RequestBody final Set<Integer> quizIds) {
+        LOGGER.info(QuizLoggerMessage.GET_QUIZZES_BY_IDS_REQUEST
+                + quizIds.size());
+        Map<Integer, QuizDto> quizzes = quizService.getQuizzesByIds(quizIds);
+        return new ResponseEntity<>(quizzes, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a list of all quizzes, or one slice of it when any of the
+     * paging parameters is given.
+     * @param page  The zero based page number.
+     * @param size  The number of quizzes per slice.
+     * @param after Only quizzes with a greater ID are returned.
+     * @return A list of quizDto objects; the cursor of the next slice is
+     *         returned in the {@link SliceResponse#NEXT_CURSOR_HEADER} header.
+     *         The full list carries an ETag and is answered with 304 (Not
+     *         Modified) when it matches If-None-Match.
      */
     @GetMapping
-    public final ResponseEntity<List<QuizDto>> getAllQuizzes() {
+    public final ResponseEntity<List<QuizDto>> getAllQuizzes(
+            @RequestParam(required = false) final Integer page,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Integer after) {
         LOGGER.info(QuizLoggerMessage.GET_ALL_QUIZZES_REQUEST);
-        List<QuizDto> quizzes = quizService.getAllQuizzes();
+        if (page != null || size != null || after != null) {
+            return quizService.getQuizSlice(after, page, size)
+                    .toResponseEntity();
+        }
+        CachedResponse<List<QuizDto>> quizzes = quizService.getAllQuizzes();
         LOGGER.info(QuizLoggerMessage.LIST_OF_QUESTIONS_RETRIEVED_SUCCESSFULLY);
-        return new ResponseEntity<>(quizzes, HttpStatus.OK);
+        return quizzes.toResponseEntity();
     }
     
     
@@ -131,9 +167,10 @@ public class QuizController {
     public final ResponseEntity<List<QuizDto>> getQuizzByCategoryId( 
     		@PathVariable final Integer categoryId) throws NotFoundException {
         LOGGER.info(QuizLoggerMessage.GET_ALL_QUIZZES_REQUEST);
-        List<QuizDto> quizzes = quizService.getQuizByCategoryId(categoryId);
+        CachedResponse<List<QuizDto>> quizzes =
+                quizService.getQuizByCategoryId(categoryId);
         LOGGER.info(QuizLoggerMessage.LIST_OF_QUESTIONS_RETRIEVED_SUCCESSFULLY);
-        return new ResponseEntity<>(quizzes, HttpStatus.OK);
+        return quizzes.toResponseEntity();
     }
 
     /**
@@ -149,6 +186,24 @@ public class QuizController {
                 HttpStatus.OK);
     }
 
+    /**
+     * Deletes at most a given number of the quizzes of a category. Called
+     * repeatedly by the category service while it deletes a category.
+     * @param categoryId The ID of the category being deleted.
+     * @param limit The most quizzes to delete.
+     * @return The number of quizzes deleted; 0 once none are left.
+     */
+    @DeleteMapping("/categories/{categoryId}")
+    public final ResponseEntity<Integer> deleteQuizChunk(
+            @PathVariable final int categoryId,
+            @RequestParam final int limit) {
+        LOGGER.info(QuizLoggerMessage.DELETE_QUIZ_CHUNK_REQUEST, limit,
+                categoryId);
+        return new ResponseEntity<>(
+                quizService.deleteQuizzesByCategoryId(categoryId, limit),
+                HttpStatus.OK);
+    }
+
 
     /**
      * Enables a category with the specified ID.
@@ -167,4 +222,54 @@ public class QuizController {
     public void disableCategory(@PathVariable int quizId) {
         quizService.disableQuiz(quizId);
     }
+
+    /**
+     * Enables quizzes in bulk with a single update per selection.
+     * @param quizIds The IDs of the quizzes, may be omitted.
+     * @param categoryIds The IDs of the categories whose quizzes are all
+     *        enabled, may be omitted.
+     * @return The number of updated quizzes.
+     */
+    @PutMapping("/enable")
+    public final ResponseEntity<Integer> enableQuizzes(
+            @RequestBody(required = false) final Set<Integer> quizIds,
+            @RequestParam(required = false) final Set<Integer> categoryIds) {
+        LOGGER.info(QuizLoggerMessage.SET_QUIZZES_ENABLED_REQUEST, true,
+                quizIds, categoryIds);
+        return new ResponseEntity<>(
+                quizService.setQuizzesEnabled(quizIds, categoryIds, true),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Disables quizzes in bulk with a single update per selection.
+     * @param quizIds The IDs of the quizzes, may be omitted.
+     * @param categoryIds The IDs of the categories whose quizzes are all
+     *        disabled, may be omitted.
+     * @return The number of updated quizzes.
+     */
+    @PutMapping("/disable")
+    public final ResponseEntity<Integer> disableQuizzes(
+            @RequestBody(required = false) final Set<Integer> quizIds,
+            @RequestParam(required = false) final Set<Integer> categoryIds) {
+        LOGGER.info(QuizLoggerMessage.SET_QUIZZES_ENABLED_REQUEST, false,
+                quizIds, categoryIds);
+        return new ResponseEntity<>(
+                quizService.setQuizzesEnabled(quizIds, categoryIds, false),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Drops a category from the local category cache. Called by the
+     * category service whenever the category changes.
+     * @param categoryId The ID of the changed category.
+     * @return An empty response with HTTP status 204 (No Content).
+     */
+    @DeleteMapping("/cache/categories/{categoryId}")
+    public final ResponseEntity<Void> evictCategory(
+            @PathVariable final int categoryId) {
+        LOGGER.info(QuizLoggerMessage.EVICT_CATEGORY_REQUEST, categoryId);
+        quizService.evictCategory(categoryId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
 }
@@ -7,8 +7,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -20,8 +23,13 @@ import lombok.Setter;
 @Setter
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_quiz_category_id",
+        columnList = "categoryId"),
+        uniqueConstraints = @UniqueConstraint(name = Quiz.NAME_CONSTRAINT,
+        columnNames = "quizName"))
 @SequenceGenerator(name = "quizSeq",
-initialValue = Quiz.ID_INITIAL_VALUE, allocationSize = 1)
+initialValue = Quiz.ID_INITIAL_VALUE,
+allocationSize = Quiz.ID_ALLOCATION_SIZE)
 public class Quiz {
 
     /**
@@ -29,6 +37,16 @@ public class Quiz {
      */
     public static final int ID_INITIAL_VALUE = 4010;
 
+    /**
+     * Constant for the number of quiz IDs reserved per sequence query.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Constant for the name of the unique constraint on the quiz name.
+     */
+    public static final String NAME_CONSTRAINT = "uk_quiz_quiz_name";
+
     /**
      * The ID of the quiz.
      */
@@ -81,6 +81,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles InvalidRequestException by returning a response with a "Bad
+     * Request" status.
+     * @param exception The InvalidRequestException to handle.
+     * @return A ResponseEntity with a "Bad Request" status and an error
+     *         message.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public final ResponseEntity<ErrorResponse> handleInvalidRequest(
+            final InvalidRequestException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(), exception.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
 
     /**
      * Handles HttpMessageNotReadableException by returning.
@@ -0,0 +1,60 @@
+package com.krishna.quiz.externalService;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.krishna.quiz.dto.CategoryDto;
+import com.krishna.quiz.utility.NearCache;
+
+/**
+ * Category lookups served from the local category cache, falling back to the
+ * category service on a miss. Cached categories are shared between callers
+ * and must not be modified.
+ */
+@Component
+public class CachedCategoryService {
+
+    /**
+     * This is use to call the category service.
+     */
+    @Autowired
+    private CategoryService categoryService;
+
+    /**
+     * This is use to keep recently fetched categories.
+     */
+    @Autowired
+    private NearCache<Integer, CategoryDto> categoryCache;
+
+    /**
+     * Retrieves a category by its ID.
+     * @param categoryId The ID of the category.
+     * @return The categoryDto.
+     */
+    public CategoryDto getCategoryById(final int categoryId) {
+        return categoryCache.get(categoryId, categoryService::getCategoryById);
+    }
+
+    /**
+     * Retrieves the categories matching the given IDs, fetching only the
+     * ones not cached with a single batch call.
+     * @param categoryIds The IDs of the categories.
+     * @return A map of category ID to categoryDto; unknown IDs are omitted.
+     */
+    public Map<Integer, CategoryDto> getCategoriesByIds(
+            final Set<Integer> categoryIds) {
+        return categoryCache.getAll(categoryIds,
+                categoryService::getCategoriesByIds);
+    }
+
+    /**
+     * Removes a category from the cache after it has changed.
+     * @param categoryId The ID of the changed category.
+     */
+    public void evict(final int categoryId) {
+        categoryCache.invalidate(categoryId);
+    }
+}
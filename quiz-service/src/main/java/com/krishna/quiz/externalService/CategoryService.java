@@ -1,8 +1,13 @@
 package com.krishna.quiz.externalService;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.krishna.quiz.dto.CategoryDto;
 import com.krishna.quiz.errorHandler.CustomErrorDecoder;
@@ -12,6 +17,9 @@ public interface CategoryService {
 
 	@GetMapping("/category/{categoryId}")
 	CategoryDto getCategoryById(@PathVariable("categoryId") int categoryId);
+
+	@PostMapping("/category/batch")
+	Map<Integer, CategoryDto> getCategoriesByIds(@RequestBody Set<Integer> categoryIds);
 	
 }
 
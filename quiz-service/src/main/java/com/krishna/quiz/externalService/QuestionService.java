@@ -1,9 +1,13 @@
 package com.krishna.quiz.externalService;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.krishna.quiz.errorHandler.CustomErrorDecoder;
 import com.krishna.quiz.utility.SuccessResponse;
@@ -13,4 +17,13 @@ public interface QuestionService {
 
 	@DeleteMapping("/api/questions/deletebyquiz/{quizId}")
     ResponseEntity<SuccessResponse> deleteQuestionsByQuizId(@PathVariable int quizId);
+
+	@DeleteMapping("/api/questions/deletebyquizzes")
+	ResponseEntity<SuccessResponse> deleteQuestionsByQuizIds(@RequestBody List<Integer> quizIds);
+
+	@DeleteMapping("/api/questions/cache/quizzes/{quizId}")
+	void evictQuiz(@PathVariable("quizId") int quizId);
+
+	@DeleteMapping("/api/questions/cache/quizzes")
+	void evictQuizzes(@RequestBody Collection<Integer> quizIds);
 }
@@ -0,0 +1,84 @@
+package com.krishna.quiz.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.krishna.quiz.dto.CategoryDto;
+import com.krishna.quiz.dto.QuizDto;
+import com.krishna.quiz.entity.Quiz;
+import com.krishna.quiz.repository.QuizRow;
+
+/**
+ * Maps between {@link Quiz} entities and {@link QuizDto} objects. Every
+ * property is copied explicitly, and the attached category is copied into a
+ * new object, as ModelMapper did.
+ */
+@Component
+public class QuizMapper {
+
+    /**
+     * Converts a quiz entity to a QuizDTO.
+     * @param quiz The quiz entity to convert.
+     * @return The converted QuizDTO.
+     */
+    public QuizDto toDto(final Quiz quiz) {
+        QuizDto quizDto = new QuizDto();
+        quizDto.setQuizId(quiz.getQuizId());
+        quizDto.setCategoryId(quiz.getCategoryId());
+        quizDto.setQuizName(quiz.getQuizName());
+        quizDto.setQuizDescription(quiz.getQuizDescription());
+        quizDto.setTimeInMinutes(quiz.getTimeInMinutes());
+        quizDto.setEnabled(quiz.isEnabled());
+        quizDto.setCategory(copy(quiz.getCategory()));
+        return quizDto;
+    }
+
+    /**
+     * Converts a projected quiz row to a QuizDTO, without a category.
+     * @param row The quiz row to convert.
+     * @return The converted QuizDTO.
+     */
+    public QuizDto toDto(final QuizRow row) {
+        QuizDto quizDto = new QuizDto();
+        quizDto.setQuizId(row.quizId());
+        quizDto.setCategoryId(row.categoryId());
+        quizDto.setQuizName(row.quizName());
+        quizDto.setQuizDescription(row.quizDescription());
+        quizDto.setTimeInMinutes(row.timeInMinutes());
+        quizDto.setEnabled(row.enabled());
+        return quizDto;
+    }
+
+    /**
+     * Converts a quizDTO to a quiz entity.
+     * @param quizDto The quizDTO to convert.
+     * @return The converted quiz entity.
+     */
+    public Quiz toEntity(final QuizDto quizDto) {
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(quizDto.getQuizId());
+        quiz.setCategoryId(quizDto.getCategoryId());
+        quiz.setQuizName(quizDto.getQuizName());
+        quiz.setQuizDescription(quizDto.getQuizDescription());
+        quiz.setTimeInMinutes(quizDto.getTimeInMinutes());
+        quiz.setEnabled(quizDto.isEnabled());
+        quiz.setCategory(copy(quizDto.getCategory()));
+        return quiz;
+    }
+
+    /**
+     * Copies a category.
+     * @param category The category to copy, may be null.
+     * @return The copy, or null if there was no category.
+     */
+    private CategoryDto copy(final CategoryDto category) {
+        if (category == null) {
+            return null;
+        }
+        CategoryDto copy = new CategoryDto();
+        copy.setCategoryId(category.getCategoryId());
+        copy.setCategoryName(category.getCategoryName());
+        copy.setDescription(category.getDescription());
+        copy.setEnabled(category.isEnabled());
+        return copy;
+    }
+}
@@ -1,9 +1,17 @@
 package com.krishna.quiz.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.krishna.quiz.entity.Quiz;
 
@@ -27,4 +35,96 @@ public interface QuizRepository extends JpaRepository<Quiz, Integer> {
      * @return A List containing the found Quiz entity, if any.
      */
     List<Quiz> findByCategoryId(int categoryId);
+
+    /**
+     * Reads the columns of every quiz into rows, in ID order, without
+     * hydrating managed entities.
+     * @return The rows of all quizzes.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.krishna.quiz.repository.QuizRow(q.quizId, "
+            + "q.categoryId, q.quizName, q.quizDescription, q.timeInMinutes, "
+            + "q.enabled) from Quiz q order by q.quizId")
+    List<QuizRow> findAllRows();
+
+    /**
+     * Reads the columns of the quizzes of a category into rows, in ID
+     * order, without hydrating managed entities.
+     * @param categoryId The ID of the category.
+     * @return The rows of its quizzes.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.krishna.quiz.repository.QuizRow(q.quizId, "
+            + "q.categoryId, q.quizName, q.quizDescription, q.timeInMinutes, "
+            + "q.enabled) from Quiz q where q.categoryId = :categoryId "
+            + "order by q.quizId")
+    List<QuizRow> findRowsByCategoryId(@Param("categoryId") int categoryId);
+
+    /**
+     * Finds the IDs of the quizzes of a category, without loading them.
+     * @param categoryId The ID of the category.
+     * @return The IDs of its quizzes.
+     */
+    @Query("select q.quizId from Quiz q where q.categoryId = :categoryId")
+    List<Integer> findQuizIdsByCategoryId(
+            @Param("categoryId") int categoryId);
+
+    /**
+     * Finds the IDs of the first quizzes of a category, in ID order, so a
+     * large category can be deleted a bounded chunk at a time.
+     * @param categoryId The ID of the category.
+     * @param pageable The number of IDs to return.
+     * @return The IDs of at most that many of its quizzes.
+     */
+    @Query("select q.quizId from Quiz q where q.categoryId = :categoryId "
+            + "order by q.quizId")
+    List<Integer> findQuizIdsByCategoryId(
+            @Param("categoryId") int categoryId, Pageable pageable);
+
+    /**
+     * Finds one slice of the quizzes whose ID is greater than the cursor.
+     * @param quizId The cursor; only quizzes after it are returned.
+     * @param pageable The size, page and ordering of the slice.
+     * @return A slice of quizzes, without a total count query.
+     */
+    Slice<Quiz> findByQuizIdGreaterThan(int quizId, Pageable pageable);
+
+    /**
+     * Finds the IDs of the quizzes of the given categories, without loading
+     * them.
+     * @param categoryIds The IDs of the categories.
+     * @return The IDs of their quizzes.
+     */
+    @Query("select q.quizId from Quiz q where q.categoryId in :categoryIds")
+    List<Integer> findQuizIdsByCategoryIdIn(
+            @Param("categoryIds") Collection<Integer> categoryIds);
+
+    /**
+     * Enables or disables the given quizzes with a single statement, without
+     * loading them.
+     * @param quizIds The IDs of the quizzes.
+     * @param enabled Whether the quizzes are enabled.
+     * @return The number of updated quizzes.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Quiz q set q.enabled = :enabled "
+            + "where q.quizId in :quizIds")
+    int updateEnabledByQuizIdIn(@Param("quizIds") Collection<Integer> quizIds,
+            @Param("enabled") boolean enabled);
+
+    /**
+     * Enables or disables all quizzes of the given categories with a single
+     * statement, without loading them.
+     * @param categoryIds The IDs of the categories.
+     * @param enabled Whether the quizzes are enabled.
+     * @return The number of updated quizzes.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Quiz q set q.enabled = :enabled "
+            + "where q.categoryId in :categoryIds")
+    int updateEnabledByCategoryIdIn(
+            @Param("categoryIds") Collection<Integer> categoryIds,
+            @Param("enabled") boolean enabled);
 }
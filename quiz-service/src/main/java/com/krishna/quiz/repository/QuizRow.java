@@ -0,0 +1,15 @@
+package com.krishna.quiz.repository;
+
+/**
+ * The columns of a quiz that a quizDto is built from, selected straight into
+ * a record so list queries skip entity hydration and dirty checking.
+ * @param quizId The ID of the quiz.
+ * @param categoryId The ID of the category of the quiz.
+ * @param quizName The name of the quiz.
+ * @param quizDescription The description of the quiz.
+ * @param timeInMinutes The time allowed for the quiz.
+ * @param enabled Whether the quiz is enabled.
+ */
+public record QuizRow(int quizId, int categoryId, String quizName,
+        String quizDescription, int timeInMinutes, boolean enabled) {
+}
@@ -1,11 +1,15 @@
 package com.krishna.quiz.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
 
 import com.krishna.quiz.dto.QuizDto;
 import com.krishna.quiz.exception.ResourceNotFoundException;
+import com.krishna.quiz.utility.CachedResponse;
+import com.krishna.quiz.utility.SliceResponse;
 import com.krishna.quiz.utility.SuccessResponse;
 
 /**
@@ -29,13 +33,38 @@ public interface QuizService {
     SuccessResponse deleteQuiz(Integer quizId) throws NotFoundException;
 
     boolean deleteQuizzesByCategoryId(int categoryId);
+
+    /**
+     * Deletes at most a given number of the quizzes of a category, with
+     * their questions.
+     * @param categoryId The ID of the category being deleted.
+     * @param limit The most quizzes to delete.
+     * @return The number of quizzes deleted; 0 once none are left.
+     */
+    int deleteQuizzesByCategoryId(int categoryId, int limit);
+
+    /**
+     * Drops a changed category from the local category cache.
+     * @param categoryId The ID of the changed category.
+     */
+    void evictCategory(int categoryId);
+
     /**
      * Retrieves a quiz by its ID.
      * @param quizId The ID of the quiz to retrieve.
-     * @return The retrieved quizDto.
+     * @return The retrieved quizDto and its entity tag.
      * @throws NotFoundException If the quizId is invalid.
      */
-    QuizDto getQuizById(Integer quizId) throws NotFoundException;
+    CachedResponse<QuizDto> getQuizById(Integer quizId)
+            throws NotFoundException;
+
+    /**
+     * Retrieves the quizzes matching the given IDs, with their categories
+     * already resolved.
+     * @param quizIds The IDs of the quizzes to retrieve.
+     * @return A map of quiz ID to quizDto; unknown IDs are omitted.
+     */
+    Map<Integer, QuizDto> getQuizzesByIds(Set<Integer> quizIds);
 
 
 
@@ -68,19 +97,42 @@ public interface QuizService {
      */
     void disableQuiz(int quizId);
 
+    /**
+     * Enables or disables quizzes in bulk, selected by ID, by category, or
+     * both, with one update statement per selection.
+     * @param quizIds The IDs of the quizzes, may be null or empty.
+     * @param categoryIds The IDs of the categories whose quizzes are all
+     *        updated, may be null or empty.
+     * @param enabled Whether the quizzes are enabled.
+     * @return The number of rows updated by the statements.
+     */
+    int setQuizzesEnabled(Set<Integer> quizIds, Set<Integer> categoryIds,
+            boolean enabled);
+
 	/**
 	 * Retrieves a quiz by ID.
 	 *
 	 * @param quizId The ID of the quiz to retrieve.
-	 * @return The quizDto representing the quiz.
+	 * @return The quizDtos of the category and their entity tag.
 	 * @throws RuntimeException If the quiz is not found.
 	 */
-	List<QuizDto> getQuizByCategoryId(Integer categoryId) throws ResourceNotFoundException;
+	CachedResponse<List<QuizDto>> getQuizByCategoryId(Integer categoryId) throws ResourceNotFoundException;
 
 	/**
 	 * Retrieves a list of all quizzes.
 	 *
-	 * @return A list of CategoryDto objects representing quizzes.
+	 * @return A list of CategoryDto objects representing quizzes and their
+	 *         entity tag.
+	 */
+	CachedResponse<List<QuizDto>> getAllQuizzes();
+
+	/**
+	 * Retrieves one slice of the quizzes ordered by ID.
+	 *
+	 * @param after Only quizzes with a greater ID are returned, may be null.
+	 * @param page  The zero based page number, may be null.
+	 * @param size  The slice size, may be null.
+	 * @return The slice of quizDtos and the cursor of the next slice.
 	 */
-	List<QuizDto> getAllQuizzes();
+	SliceResponse<QuizDto> getQuizSlice(Integer after, Integer page, Integer size);
 }
@@ -1,13 +1,19 @@
 package com.krishna.quiz.service.implementation;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Optional;
+import java.util.function.Predicate;
 
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -20,12 +26,20 @@ import com.krishna.quiz.dto.CategoryDto;
 import com.krishna.quiz.dto.QuizDto;
 import com.krishna.quiz.entity.Quiz;
 import com.krishna.quiz.exception.DuplicateResourceException;
+import com.krishna.quiz.exception.InvalidRequestException;
 import com.krishna.quiz.exception.ResourceNotFoundException;
-import com.krishna.quiz.externalService.CategoryService;
+import com.krishna.quiz.externalService.CachedCategoryService;
 import com.krishna.quiz.externalService.QuestionService;
+import com.krishna.quiz.mapper.QuizMapper;
 import com.krishna.quiz.repository.QuizRepository;
+import com.krishna.quiz.repository.QuizRow;
 import com.krishna.quiz.service.QuizService;
+import com.krishna.quiz.utility.CachedResponse;
+import com.krishna.quiz.utility.ConstraintViolations;
 import com.krishna.quiz.utility.Message;
+import com.krishna.quiz.utility.QuizLoggerMessage;
+import com.krishna.quiz.utility.ResponseCache;
+import com.krishna.quiz.utility.SliceResponse;
 import com.krishna.quiz.utility.SuccessResponse;
 
 
@@ -44,19 +58,40 @@ public class QuizServiceImpl implements QuizService {
     private QuizRepository quizRepository;
 
     /**
-     * This is use to map the category with Dto and viceversa..
+     * This is use to map the quiz with Dto and viceversa.
      */
     @Autowired
-    private ModelMapper modelMapper;
+    private QuizMapper quizMapper;
     
+    /**
+     * This is use to look up categories through the local category cache.
+     */
     @Autowired
-    private CategoryService categoryService;
+    private CachedCategoryService categoryService;
 
     @Autowired
     private QuestionService questionService;
     
     @Autowired
 	private RestTemplate restTemplate;
+
+    /**
+     * This is use to cache quizzes by ID.
+     */
+    @Autowired
+    private ResponseCache<Integer, QuizDto> quizCache;
+
+    /**
+     * This is use to cache the quiz lists, of all quizzes and by category.
+     */
+    @Autowired
+    private ResponseCache<String, List<QuizDto>> quizListCache;
+
+    /**
+     * Key of the list of all quizzes in the list cache.
+     */
+    private static final String ALL_QUIZZES_KEY = "all";
+
     /**
      * this is logger object that is use to generate log.
      */
@@ -72,12 +107,6 @@ public class QuizServiceImpl implements QuizService {
     @Override
     public final SuccessResponse addQuiz(final QuizDto quizDTO) {
 
-        Optional<Quiz> existingQuiz = quizRepository.findByQuizName(quizDTO.getQuizName());
-        if (existingQuiz.isPresent()) {
-            LOGGER.error(Message.QUIZ_ALREADY_EXISTS);
-            throw new DuplicateResourceException(Message.QUIZ_ALREADY_EXISTS);
-        }
-
         Optional<CategoryDto> categoryResponse = Optional.ofNullable(categoryService.getCategoryById(quizDTO.getCategoryId()));
 
         if (categoryResponse.isEmpty()) {
@@ -86,12 +115,33 @@ public class QuizServiceImpl implements QuizService {
         }
     	  
           Quiz quiz = convertToEntity(quizDTO);
-          quizRepository.save(quiz);
+          try {
+              quizRepository.saveAndFlush(quiz);
+          } catch (DataIntegrityViolationException exception) {
+              throw duplicateName(exception);
+          }
+          evictQuizLists(quiz.getCategoryId());
           return new SuccessResponse(HttpStatus.CREATED.value(), Message.QUIZ_CREATED_SUCCESSFULLY);
       
     }
 
 
+    /**
+     * Translates a rejected quiz write into the exception to throw.
+     *
+     * @param exception The exception thrown by the write.
+     * @return A DuplicateResourceException if the quiz name is taken,
+     *         otherwise the exception itself.
+     */
+    private RuntimeException duplicateName(
+            final DataIntegrityViolationException exception) {
+        if (!ConstraintViolations.violates(exception, Quiz.NAME_CONSTRAINT)) {
+            return exception;
+        }
+        LOGGER.error(Message.QUIZ_ALREADY_EXISTS);
+        return new DuplicateResourceException(Message.QUIZ_ALREADY_EXISTS);
+    }
+
     /**
      * Updates a quiz.
      * @param quizId  The ID of the quiz.
@@ -107,12 +157,6 @@ public class QuizServiceImpl implements QuizService {
             throw new ResourceNotFoundException(
                     Message.QUIZ_NOT_FOUND + quizId);
         });
-        if (!existingQuiz.getQuizName().equals(quizDTO.getQuizName())
-                && quizRepository.findByQuizName(quizDTO.getQuizName())
-                        .isPresent()) {
-            LOGGER.error(Message.QUIZ_ALREADY_EXISTS);
-            throw new DuplicateResourceException(Message.QUIZ_ALREADY_EXISTS);
-        }
 
         Optional<CategoryDto> categoryResponse = Optional.ofNullable(categoryService.getCategoryById(quizDTO.getCategory().getCategoryId()));
 
@@ -125,7 +169,15 @@ public class QuizServiceImpl implements QuizService {
         existingQuiz.setQuizDescription(quizDTO.getQuizDescription());
         existingQuiz.setTimeInMinutes(quizDTO.getTimeInMinutes());
         existingQuiz.setCategory(category);
-        quizRepository.save(existingQuiz);
+        try {
+            quizRepository.saveAndFlush(existingQuiz);
+        } catch (DataIntegrityViolationException exception) {
+            throw duplicateName(exception);
+        }
+        quizCache.evict(quizId);
+        evictQuizLists(existingQuiz.getCategoryId());
+        evictQuizLists(category.getCategoryId());
+        publishQuizChanged(quizId);
         
         return new SuccessResponse(HttpStatus.OK.value(),
                 Message.QUIZ_UPDATED_SUCCESSFULLY);
@@ -152,30 +204,107 @@ public class QuizServiceImpl implements QuizService {
         questionService.deleteQuestionsByQuizId(quizId);
         
         quizRepository.deleteById(quiz.getQuizId());
+        quizCache.evict(quizId);
+        evictQuizLists(quiz.getCategoryId());
+        publishQuizChanged(quizId);
         return new SuccessResponse(HttpStatus.OK.value(),
                 Message.QUIZ_DELETED_SUCCESSFULLY);
     }
     
+    /**
+     * Deletes the quizzes of a category and their questions with a fixed
+     * number of statements and calls: one query for the quiz IDs, one call
+     * deleting all their questions, which also evicts the quizzes from the
+     * question service cache, and one batch delete of the quizzes.
+     *
+     * @param categoryId The ID of the category being deleted.
+     * @return true once the quizzes are deleted.
+     */
     public boolean deleteQuizzesByCategoryId(int categoryId) {
-        List<Quiz> quizzes = quizRepository.findByCategoryId(categoryId);
+        deleteQuizzes(categoryId,
+                quizRepository.findQuizIdsByCategoryId(categoryId));
+        return true;
+    }
+
+    /**
+     * Deletes the first quizzes of a category, in ID order, and their
+     * questions, so that a large category can be deleted in bounded chunks.
+     *
+     * @param categoryId The ID of the category being deleted.
+     * @param limit The most quizzes to delete.
+     * @return The number of quizzes deleted; 0 once none are left.
+     * @throws InvalidRequestException If the limit is less than 1.
+     */
+    @Override
+    public final int deleteQuizzesByCategoryId(final int categoryId,
+            final int limit) {
+        if (limit < 1) {
+            throw new InvalidRequestException(
+                    Message.INVALID_DELETE_LIMIT + limit);
+        }
+        return deleteQuizzes(categoryId, quizRepository
+                .findQuizIdsByCategoryId(categoryId, PageRequest.of(0, limit)));
+    }
 
-        for (Quiz quiz : quizzes) {
-            quizRepository.delete(quiz);
-            questionService.deleteQuestionsByQuizId(quiz.getQuizId());
+    /**
+     * Deletes quizzes of a category and their questions with one call to the
+     * question service and one batch delete, then evicts them.
+     *
+     * @param categoryId The ID of the category of the quizzes.
+     * @param quizIds The IDs of the quizzes to delete.
+     * @return The number of quizzes deleted.
+     */
+    private int deleteQuizzes(final int categoryId,
+            final List<Integer> quizIds) {
+        if (!quizIds.isEmpty()) {
+            questionService.deleteQuestionsByQuizIds(quizIds);
+            quizRepository.deleteAllByIdInBatch(quizIds);
+            quizIds.forEach(quizCache::evict);
+        }
+        evictQuizLists(categoryId);
+        return quizIds.size();
+    }
+
+    /**
+     * Drops a changed category from the local category cache, together with
+     * the cached quizzes that embed it, and tells the question service to
+     * drop its copies of those quizzes.
+     *
+     * @param categoryId The ID of the changed category.
+     */
+    @Override
+    public final void evictCategory(final int categoryId) {
+        categoryService.evict(categoryId);
+        quizCache.evictIf(quizDto -> quizDto.getCategoryId() == categoryId);
+        evictQuizLists(categoryId);
+        Set<Integer> quizIds = new HashSet<>(quizRepository
+                .findQuizIdsByCategoryIdIn(Set.of(categoryId)));
+        if (!quizIds.isEmpty()) {
+            publishQuizzesChanged(quizIds);
         }
-        return true;
     }
 
     /**
      * Retrieves a quiz by ID.
      *
      * @param quizId The ID of the quiz to retrieve.
-     * @return The quizDto representing the quiz.
+     * @return The quizDto representing the quiz and its entity tag.
      * @throws RuntimeException If the quiz is not found.
      */
     @Override
-    public final QuizDto getQuizById(final Integer quizId)
+    public final CachedResponse<QuizDto> getQuizById(final Integer quizId)
             throws ResourceNotFoundException {
+        return quizCache.get(quizId, () -> loadQuizById(quizId));
+    }
+
+    /**
+     * Reads a quiz by ID from the database and attaches its category.
+     *
+     * @param quizId The ID of the quiz to retrieve.
+     * @return The quizDto representing the quiz.
+     * @throws RuntimeException If the quiz is not found.
+     */
+    private QuizDto loadQuizById(final Integer quizId) {
         Quiz quiz = quizRepository.findById(quizId).orElseThrow(() -> {
             LOGGER.error("Quiz not found with Id : {}", quizId);
             return new ResourceNotFoundException(
@@ -185,27 +314,41 @@ public class QuizServiceImpl implements QuizService {
         return convertToDto(quiz);
     }
 
+
+    /**
+     * Retrieves the quizzes matching the given IDs with one query and one
+     * category lookup.
+     *
+     * @param quizIds The IDs of the quizzes to retrieve.
+     * @return A map of quiz ID to quizDto; unknown IDs are omitted.
+     */
+    @Override
+    public final Map<Integer, QuizDto> getQuizzesByIds(
+            final Set<Integer> quizIds) {
+        if (quizIds == null || quizIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Quiz> quizzes = quizRepository.findAllById(quizIds);
+        return convertToDtosWithCategory(quizzes).stream()
+                .collect(Collectors.toMap(QuizDto::getQuizId,
+                        quizDto -> quizDto));
+    }
     
     /**
-     * Retrieves a quiz by ID.
+     * Retrieves the quizzes of a category. An empty list is not cached, so
+     * unknown category IDs do not fill the cache.
      *
-     * @param quizId The ID of the quiz to retrieve.
-     * @return The quizDto representing the quiz.
+     * @param categoryId The ID of the category.
+     * @return The quizDtos of the category and their entity tag.
      * @throws RuntimeException If the quiz is not found.
      */
     @Override
-    public final List<QuizDto> getQuizByCategoryId(final Integer categoryId)
-            throws ResourceNotFoundException {
-        List<Quiz> quizzes = quizRepository.findByCategoryId(categoryId);
-        return quizzes.stream().map(quiz -> {
-            CategoryDto categoryDto = 
-            		categoryService.getCategoryById(quiz.getCategoryId());
-
-            QuizDto quizDto = convertToDto(quiz);
-            quizDto.setCategory(categoryDto);
-            return quizDto;
-        })
-        .collect(Collectors.toList());
+    public final CachedResponse<List<QuizDto>> getQuizByCategoryId(
+            final Integer categoryId) throws ResourceNotFoundException {
+        return quizListCache.get(categoryKey(categoryId), () ->
+                List.copyOf(convertRowsWithCategory(
+                        quizRepository.findRowsByCategoryId(categoryId))),
+                quizzes -> !quizzes.isEmpty());
     }
     
     
@@ -213,21 +356,82 @@ public class QuizServiceImpl implements QuizService {
     /**
      * Retrieves a list of all quizzes.
      *
-     * @return A list of CategoryDto objects representing quizzes.
+     * @return A list of CategoryDto objects representing quizzes and their
+     *         entity tag.
      */
     @Override
-    public final List<QuizDto> getAllQuizzes() {
-        List<Quiz> quizzes = quizRepository.findAll();
-        return quizzes.stream()
-                .map(quiz -> {
-                    CategoryDto categoryDto = 
-                    		categoryService.getCategoryById(quiz.getCategoryId());
-
-                    QuizDto quizDto = convertToDto(quiz);
-                    quizDto.setCategory(categoryDto);
-                    return quizDto;
-                })
-                .collect(Collectors.toList());
+    public final CachedResponse<List<QuizDto>> getAllQuizzes() {
+        return quizListCache.get(ALL_QUIZZES_KEY, () ->
+                List.copyOf(convertRowsWithCategory(
+                        quizRepository.findAllRows())));
+    }
+
+    /**
+     * Retrieves one slice of the quizzes ordered by ID.
+     *
+     * @param after Only quizzes with a greater ID are returned, may be null.
+     * @param page  The zero based page number, may be null.
+     * @param size  The slice size, may be null.
+     * @return The slice of quizDtos and the cursor of the next slice.
+     */
+    @Override
+    public final SliceResponse<QuizDto> getQuizSlice(final Integer after,
+            final Integer page, final Integer size) {
+        Slice<Quiz> slice = quizRepository.findByQuizIdGreaterThan(
+                after == null ? 0 : after,
+                SliceResponse.pageRequest(page, size, "quizId"));
+        List<Quiz> quizzes = slice.getContent();
+        Integer nextCursor = slice.hasNext()
+                ? quizzes.get(quizzes.size() - 1).getQuizId()
+                : null;
+        return new SliceResponse<>(convertToDtosWithCategory(quizzes),
+                nextCursor);
+    }
+
+    /**
+     * Converts quizzes to QuizDTOs, resolving all distinct categories with a
+     * single call to the category service.
+     *
+     * @param quizzes The quiz entities to convert.
+     * @return The converted QuizDTOs with their categories attached.
+     */
+    List<QuizDto> convertToDtosWithCategory(final List<Quiz> quizzes) {
+        return attachCategories(quizzes.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts projected quiz rows to QuizDTOs, resolving all distinct
+     * categories with a single call to the category service.
+     *
+     * @param rows The quiz rows to convert.
+     * @return The converted QuizDTOs with their categories attached.
+     */
+    List<QuizDto> convertRowsWithCategory(final List<QuizRow> rows) {
+        return attachCategories(rows.stream()
+                .map(quizMapper::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Attaches their categories to QuizDTOs, fetched with one call.
+     *
+     * @param quizDtos The QuizDTOs, updated in place.
+     * @return The same QuizDTOs.
+     */
+    private List<QuizDto> attachCategories(final List<QuizDto> quizDtos) {
+        if (quizDtos.isEmpty()) {
+            return quizDtos;
+        }
+        Set<Integer> categoryIds = quizDtos.stream()
+                .map(QuizDto::getCategoryId)
+                .collect(Collectors.toSet());
+        Map<Integer, CategoryDto> categories =
+                categoryService.getCategoriesByIds(categoryIds);
+        quizDtos.forEach(quizDto -> quizDto.setCategory(
+                categories.get(quizDto.getCategoryId())));
+        return quizDtos;
     }
 
     /**
@@ -237,8 +441,7 @@ public class QuizServiceImpl implements QuizService {
      * @return The converted QuizDTO.
      */
     QuizDto convertToDto(final Quiz quiz) {
-        QuizDto quizDTO = modelMapper.map(quiz, QuizDto.class);
-        return quizDTO;
+        return quizMapper.toDto(quiz);
     }
 
     /**
@@ -248,8 +451,7 @@ public class QuizServiceImpl implements QuizService {
      * @return The converted quiz entity.
      */
     Quiz convertToEntity(final QuizDto quizDto) {
-        Quiz quiz = modelMapper.map(quizDto, Quiz.class);
-        return quiz;
+        return quizMapper.toEntity(quizDto);
     }
 
     /**
@@ -286,6 +488,9 @@ public class QuizServiceImpl implements QuizService {
 
             existingQuiz.setEnabled(true);
             quizRepository.save(existingQuiz);
+            quizCache.evict(quizId);
+            evictQuizLists(existingQuiz.getCategoryId());
+            publishQuizChanged(quizId);
         
     }
 
@@ -303,6 +508,101 @@ public class QuizServiceImpl implements QuizService {
 
             existingQuiz.setEnabled(false);
             quizRepository.save(existingQuiz);
+            quizCache.evict(quizId);
+            evictQuizLists(existingQuiz.getCategoryId());
+            publishQuizChanged(quizId);
+    }
+
+    /**
+     * Enables or disables quizzes in bulk, selected by ID, by category, or
+     * both, with one update statement per selection.
+     *
+     * @param quizIds     The IDs of the quizzes, may be null or empty.
+     * @param categoryIds The IDs of the categories whose quizzes are all
+     *                    updated, may be null or empty.
+     * @param enabled     Whether the quizzes are enabled.
+     * @return The number of rows updated by the statements.
+     */
+    @Override
+    public final int setQuizzesEnabled(final Set<Integer> quizIds,
+            final Set<Integer> categoryIds, final boolean enabled) {
+        Set<Integer> changedQuizIds = new HashSet<>();
+        int updated = 0;
+        if (quizIds != null && !quizIds.isEmpty()) {
+            updated += quizRepository.updateEnabledByQuizIdIn(quizIds,
+                    enabled);
+            changedQuizIds.addAll(quizIds);
+        }
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            changedQuizIds.addAll(
+                    quizRepository.findQuizIdsByCategoryIdIn(categoryIds));
+            updated += quizRepository.updateEnabledByCategoryIdIn(categoryIds,
+                    enabled);
+            categoryIds.forEach(categoryId ->
+                    quizListCache.evict(categoryKey(categoryId)));
+        }
+        if (changedQuizIds.isEmpty()) {
+            return updated;
+        }
+        Predicate<QuizDto> changed =
+                quizDto -> changedQuizIds.contains(quizDto.getQuizId());
+        quizCache.evictIf(changed);
+        quizListCache.evictIf(quizDtos -> quizDtos.stream().anyMatch(changed));
+        publishQuizzesChanged(changedQuizIds);
+        return updated;
+    }
+
+    /**
+     * Drops the cached list of all quizzes and the cached quiz list of a
+     * category.
+     *
+     * @param categoryId The category whose quizzes changed.
+     */
+    private void evictQuizLists(final int categoryId) {
+        quizListCache.evict(ALL_QUIZZES_KEY);
+        quizListCache.evict(categoryKey(categoryId));
+    }
+
+    /**
+     * Returns the list cache key of the quizzes of a category.
+     *
+     * @param categoryId The ID of the category.
+     * @return the cache key.
+     */
+    private static String categoryKey(final int categoryId) {
+        return "category:" + categoryId;
+    }
+
+    /**
+     * Tells the question service that a quiz has changed, so that it drops
+     * the quiz from its cache. A failed notification is only logged; the
+     * stale entry then lives until it expires.
+     *
+     * @param quizId The ID of the changed quiz.
+     */
+    private void publishQuizChanged(final int quizId) {
+        try {
+            questionService.evictQuiz(quizId);
+        } catch (RuntimeException exception) {
+            LOGGER.warn(QuizLoggerMessage.QUIZ_CACHE_EVICTION_FAILED, quizId,
+                    exception.getMessage());
+        }
+    }
+
+    /**
+     * Tells the question service that quizzes have changed, with one call
+     * for all of them. A failed notification is only logged; the stale
+     * entries then live until they expire.
+     *
+     * @param quizIds The IDs of the changed quizzes.
+     */
+    private void publishQuizzesChanged(final Set<Integer> quizIds) {
+        try {
+            questionService.evictQuizzes(quizIds);
+        } catch (RuntimeException exception) {
+            LOGGER.warn(QuizLoggerMessage.QUIZZES_CACHE_EVICTION_FAILED,
+                    quizIds, exception.getMessage());
+        }
     }
 
 //    /**
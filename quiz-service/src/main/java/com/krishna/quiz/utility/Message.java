@@ -192,6 +192,18 @@ public final class Message {
     public static final String REPORT_NOT_FOUND =
             "Report does not exist.";
 
+    /**
+     * Error message indicating that indexes the queries rely on are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes, run the migrations: ";
+
+    /**
+     * Error message indicating that a delete limit is not positive.
+     */
+    public static final String INVALID_DELETE_LIMIT =
+            "The limit must be at least 1, was ";
+
     private Message() {
     }
 }
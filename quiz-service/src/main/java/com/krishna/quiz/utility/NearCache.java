@@ -0,0 +1,231 @@
+package com.krishna.quiz.utility;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * This class is a small in-process cache kept in front of a remote lookup.
+ * Entries expire after a fixed time to live, and the least recently used
+ * entry is evicted once the cache holds more than its maximum size. Missing
+ * values are never cached, nor are values whose load overlapped an
+ * invalidation, since they may have been read before the write. Hits,
+ * misses and evictions are published as metrics tagged with the cache name.
+ * @param <K> The type of the keys.
+ * @param <V> The type of the cached values.
+ */
+public class NearCache<K, V> implements MeterBinder {
+
+    /**
+     * The name of the cache, used as metric tag.
+     */
+    private final String name;
+
+    /**
+     * The maximum number of entries.
+     */
+    private final int maxSize;
+
+    /**
+     * The time to live of an entry in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The entries, in least recently used order.
+     */
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of lookups that went to the remote service.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of entries removed because of size or expiry.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Incremented by every invalidation, so that overlapping loads are
+     * discarded.
+     */
+    private long generation;
+
+    /**
+     * Constructs a near cache.
+     * @param cacheName The name of the cache.
+     * @param size The maximum number of entries.
+     * @param ttl The time to live of an entry.
+     */
+    public NearCache(final String cacheName, final int size,
+            final Duration ttl) {
+        this.name = cacheName;
+        this.maxSize = size;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value of a key, loading and caching it on a miss.
+     * @param key The key to look up.
+     * @param loader The remote lookup of a single key.
+     * @return The value, or null if the loader returned none.
+     */
+    public V get(final K key, final Function<K, V> loader) {
+        long loadGeneration = currentGeneration();
+        V value = getIfPresent(key);
+        if (value == null) {
+            value = loader.apply(key);
+            put(key, value, loadGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached values of the keys, loading all missing keys with
+     * one call to the loader.
+     * @param keys The keys to look up.
+     * @param loader The remote lookup of a set of keys.
+     * @return A map of key to value; keys without a value are omitted.
+     */
+    public Map<K, V> getAll(final Set<K> keys,
+            final Function<Set<K>, Map<K, V>> loader) {
+        long loadGeneration = currentGeneration();
+        Map<K, V> values = new HashMap<>();
+        Set<K> missing = new HashSet<>();
+        for (K key : keys) {
+            V value = getIfPresent(key);
+            if (value == null) {
+                missing.add(key);
+            } else {
+                values.put(key, value);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach((key, value) -> {
+                put(key, value, loadGeneration);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+        }
+        return values;
+    }
+
+    /**
+     * Removes a key, so that the next lookup goes to the remote service.
+     * @param key The key to remove.
+     */
+    public synchronized void invalidate(final K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Getter for the number of entries.
+     * @return the number of entries, including expired ones not yet removed.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Registers the hit, miss, eviction and size metrics of this cache.
+     * @param registry The registry to register the metrics with.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("near.cache.hits", hits, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("near.cache.misses", misses, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("near.cache.evictions", evictions,
+                LongAdder::sum).tag("cache", name).register(registry);
+        Gauge.builder("near.cache.size", this, NearCache::size)
+                .tag("cache", name).register(registry);
+    }
+
+    /**
+     * Returns the value of a key if it is cached and not expired.
+     * @param key The key to look up.
+     * @return The value, or null on a miss.
+     */
+    private synchronized V getIfPresent(final K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+            hits.increment();
+            return entry.value();
+        }
+        if (entry != null) {
+            entries.remove(key);
+            evictions.increment();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Getter for the current generation, taken before a load.
+     * @return the number of invalidations so far.
+     */
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    /**
+     * Caches a loaded value; null values are ignored, and so is a value
+     * whose load started before the latest invalidation.
+     * @param key The key of the value.
+     * @param value The value to cache.
+     * @param loadGeneration The generation taken before the load.
+     */
+    private synchronized void put(final K key, final V value,
+            final long loadGeneration) {
+        if (value != null && generation == loadGeneration) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * A cached value and the time it expires at.
+     * @param value The cached value.
+     * @param expiresAt The {@link System#nanoTime()} the value expires at.
+     * @param <T> The type of the value.
+     */
+    private record Entry<T>(T value, long expiresAt) {
+    }
+}
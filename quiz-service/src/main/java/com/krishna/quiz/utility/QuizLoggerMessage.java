@@ -49,6 +49,13 @@ public final class QuizLoggerMessage {
     public static final String GET_QUIZ_BY_ID_REQUEST =
             "Received a request to get quiz by id:";
 
+    /**
+     * Log message indicating that a request has been received to get quizzes
+     * by a set of IDs.
+     */
+    public static final String GET_QUIZZES_BY_IDS_REQUEST =
+            "Received a request to get quizzes by ids, count:";
+
     /**
      * Log message indicating that a request has been received to get all
      * quizzes.
@@ -69,6 +76,51 @@ public final class QuizLoggerMessage {
      */
     public static final String LIST_OF_QUESTIONS_RETRIEVED_SUCCESSFULLY =
             "List of Questions Retrieved Successfully.";
+
+    /**
+     * Log message indicating that the question service could not be told to
+     * drop a changed quiz from its cache.
+     */
+    public static final String QUIZ_CACHE_EVICTION_FAILED =
+            "Could not evict quiz {} from the question service cache: {}";
+
+    /**
+     * Log message indicating that quizzes could not be evicted from the
+     * question service cache.
+     */
+    public static final String QUIZZES_CACHE_EVICTION_FAILED =
+            "Could not evict quizzes {} from the question service cache: {}";
+
+    /**
+     * Log message indicating that a category is dropped from the cache.
+     */
+    public static final String EVICT_CATEGORY_REQUEST =
+            "Received a request to evict cached category: {}";
+
+    /**
+     * Log message indicating that a chunk of a category is being deleted.
+     */
+    public static final String DELETE_QUIZ_CHUNK_REQUEST =
+            "Received a request to delete up to {} quizzes of category: {}";
+
+    /**
+     * Log message indicating that quizzes are enabled or disabled in bulk.
+     */
+    public static final String SET_QUIZZES_ENABLED_REQUEST =
+            "Received a request to set enabled to {} for quizzes {} and the "
+            + "quizzes of categories {}";
+
+    /**
+     * Log message indicating that expected indexes are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes: {}";
+
+    /**
+     * Log message indicating that the expected indexes exist.
+     */
+    public static final String INDEXES_VERIFIED =
+            "All expected database indexes are present.";
     /**
      * constructor to prevent the object creation.
      */
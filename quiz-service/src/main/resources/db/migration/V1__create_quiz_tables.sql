@@ -0,0 +1,19 @@
+-- Tables of the quiz service, as Hibernate used to create them with
+-- ddl-auto: update. IF NOT EXISTS keeps databases created that way intact.
+
+create table if not exists quiz (
+    quiz_id integer not null,
+    category_id integer not null,
+    quiz_name varchar(255) not null,
+    quiz_description varchar(255) not null,
+    time_in_minutes integer not null,
+    enabled bit not null,
+    primary key (quiz_id)
+) engine=InnoDB;
+
+create table if not exists quiz_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into quiz_seq (next_val)
+select 4010 from dual where not exists (select 1 from quiz_seq);
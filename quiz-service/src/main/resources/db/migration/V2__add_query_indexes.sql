@@ -0,0 +1,5 @@
+-- QuizRepository.findByCategoryId and the quiz ID lookups by category.
+create index idx_quiz_category_id on quiz (category_id);
+
+-- QuizRepository.findByQuizName.
+create index idx_quiz_quiz_name on quiz (quiz_name);
@@ -0,0 +1,5 @@
+-- Quiz names are unique. The constraint replaces the plain name index and is
+-- what addQuiz and updateQuiz rely on to reject a duplicate name.
+alter table quiz
+    drop index idx_quiz_quiz_name,
+    add constraint uk_quiz_quiz_name unique (quiz_name);
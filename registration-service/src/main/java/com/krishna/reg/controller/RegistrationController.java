@@ -2,6 +2,7 @@ package com.krishna.reg.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,12 +15,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.krishna.reg.dto.LoginRequestDto;
 import com.krishna.reg.dto.RegistrationDto;
 import com.krishna.reg.service.RegistrationService;
 import com.krishna.reg.utility.RegistrationLoggerMessage;
+import com.krishna.reg.utility.SliceResponse;
 import com.krishna.reg.utility.SuccessResponse;
 
 import jakarta.validation.Valid;
@@ -27,7 +30,7 @@ import jakarta.validation.Valid;
 /**
  * Controller class for handling user registration and login.
  */
-@CrossOrigin
+@CrossOrigin(exposedHeaders = SliceResponse.NEXT_CURSOR_HEADER)
 @RestController
 @RequestMapping("/users")
 public class RegistrationController {
@@ -97,13 +100,24 @@ public class RegistrationController {
     }
 
     /**
-     * Retrieves all user.
+     * Retrieves all user, or one slice of them when any of the paging
+     * parameters is given.
+     * @param page  The zero based page number.
+     * @param size  The number of users per slice.
+     * @param after Only users with a greater ID are returned.
      * @return The RegistrationDto object representing the retrieved user.
      * found.
      */
     @GetMapping("/get/all")
-    public final ResponseEntity<List<RegistrationDto>> getAllUsers() {
+    public final ResponseEntity<List<RegistrationDto>> getAllUsers(
+            @RequestParam(required = false) final Integer page,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Integer after) {
         LOGGER.info(RegistrationLoggerMessage.GET_ALL_USERS);
+        if (page != null || size != null || after != null) {
+            return registrationService.getRegistrationSlice(after, page, size)
+                    .toResponseEntity();
+        }
         List<RegistrationDto> result =
                 registrationService.getAllRegistrations();
         LOGGER.info(RegistrationLoggerMessage.GET_ALL_USERS_SUCCESS);
@@ -126,4 +140,19 @@ public class RegistrationController {
         LOGGER.info(RegistrationLoggerMessage.USER_BY_EMAIL_SUCCESS);
         return new ResponseEntity<>(registrationDto, HttpStatus.OK);
     }
+
+    /**
+     * Retrieves several users by their emails in a single call.
+     * @param emails The emails of the users to retrieve.
+     * @return A map of email to RegistrationDto for every email that exists.
+     */
+    @PostMapping("/batch")
+    public final ResponseEntity<Map<String, RegistrationDto>> getUsersByEmails(
+            @RequestBody final Set<String> emails) {
+        LOGGER.info(RegistrationLoggerMessage.USERS_BY_EMAILS, emails.size());
+        Map<String, RegistrationDto> users =
+                registrationService.getUsersByEmails(emails);
+        LOGGER.info(RegistrationLoggerMessage.USER_BY_EMAIL_SUCCESS);
+        return new ResponseEntity<>(users, HttpStatus.OK);
+    }
 }
@@ -6,6 +6,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,8 +21,14 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Registration.MOBILE_NUMBER_CONSTRAINT,
+                columnNames = "mobileNumber"),
+        @UniqueConstraint(name = Registration.EMAIL_CONSTRAINT,
+                columnNames = "email")})
 @SequenceGenerator(name = "userSeq",
-initialValue = Registration.ID_INITIAL_VALUE, allocationSize = 1)
+initialValue = Registration.ID_INITIAL_VALUE,
+allocationSize = Registration.ID_ALLOCATION_SIZE)
 public class Registration {
 
     /**
@@ -28,6 +36,22 @@ public class Registration {
      */
     public static final int ID_INITIAL_VALUE = 1010;
 
+    /**
+     * Constant for the number of user IDs reserved per sequence query.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Constant for the name of the unique constraint on the mobile number.
+     */
+    public static final String MOBILE_NUMBER_CONSTRAINT =
+            "uk_registration_mobile_number";
+
+    /**
+     * Constant for the name of the unique constraint on the email.
+     */
+    public static final String EMAIL_CONSTRAINT = "uk_registration_email";
+
     /**
      * The ID of the user.
      */
@@ -50,7 +74,7 @@ public class Registration {
     /**
      * The mobile number of the user.
      */
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String mobileNumber;
 
     /**
@@ -62,7 +86,7 @@ public class Registration {
     /**
      * The email address of the user.
      */
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     /**
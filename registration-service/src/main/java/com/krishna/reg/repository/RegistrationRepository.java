@@ -1,7 +1,11 @@
 package com.krishna.reg.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -31,6 +35,14 @@ public interface RegistrationRepository
      */
     Optional<Registration> findByEmail(String email);
 
+    /**
+     * Finds all Registration entities whose email is in the given collection.
+     *
+     * @param emails The emails to search for.
+     * @return A List containing the found Registration entities.
+     */
+    List<Registration> findByEmailIn(Collection<String> emails);
+
     /**
      * Finds a Registration entity by email and password.
      *
@@ -49,4 +61,15 @@ public interface RegistrationRepository
      */
     Optional<Registration> findByMobileNumber(String mobileNumber);
 
+    /**
+     * Finds one slice of the registrations whose ID is greater than the
+     * cursor.
+     *
+     * @param userId   The cursor; only registrations after it are returned.
+     * @param pageable The size, page and ordering of the slice.
+     * @return A slice of registrations, without a total count query.
+     */
+    Slice<Registration> findByUserIdGreaterThan(int userId,
+            Pageable pageable);
+
 }
@@ -2,12 +2,15 @@ package com.krishna.reg.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
 import org.springframework.stereotype.Service;
 
 import com.krishna.reg.dto.LoginRequestDto;
 import com.krishna.reg.dto.RegistrationDto;
 import com.krishna.reg.exception.LoginFailedException;
 import com.krishna.reg.exception.ResourceNotFoundException;
+import com.krishna.reg.utility.SliceResponse;
 import com.krishna.reg.utility.SuccessResponse;
 
 /**
@@ -38,6 +41,16 @@ public interface RegistrationService {
      */
     List<RegistrationDto> getAllRegistrations();
 
+    /**
+     * Retrieves one slice of the user registrations ordered by ID.
+     * @param after Only users with a greater ID are returned, may be null.
+     * @param page  The zero based page number, may be null.
+     * @param size  The slice size, may be null.
+     * @return The slice of RegistrationDtos and the cursor of the next slice.
+     */
+    SliceResponse<RegistrationDto> getRegistrationSlice(Integer after,
+            Integer page, Integer size);
+
     /**
      * Attempts to log in a user.
      * @param inputRegistrationDto The DTO containing login information.
@@ -56,4 +69,11 @@ public interface RegistrationService {
      */
     RegistrationDto getUserByEmail(String email)
             throws ResourceNotFoundException;
+
+    /**
+     * Retrieves the user registrations matching the given emails.
+     * @param emails The emails of the users to retrieve.
+     * @return A map of email to RegistrationDto; unknown emails are omitted.
+     */
+    Map<String, RegistrationDto> getUsersByEmails(Set<String> emails);
 }
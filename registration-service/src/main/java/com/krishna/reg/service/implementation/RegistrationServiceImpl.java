@@ -4,9 +4,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,7 +22,9 @@ import com.krishna.reg.exception.LoginFailedException;
 import com.krishna.reg.exception.ResourceNotFoundException;
 import com.krishna.reg.repository.RegistrationRepository;
 import com.krishna.reg.service.RegistrationService;
+import com.krishna.reg.utility.ConstraintViolations;
 import com.krishna.reg.utility.Message;
+import com.krishna.reg.utility.SliceResponse;
 import com.krishna.reg.utility.SuccessResponse;
 
 import org.slf4j.Logger;
@@ -102,29 +107,52 @@ public class RegistrationServiceImpl implements RegistrationService {
     public final SuccessResponse addUser(
             final RegistrationDto registrationDto) {
 
-        registrationRepository
-                .findByMobileNumber(registrationDto.getMobileNumber())
-                .ifPresent(existingUser -> {
-                    LOGGER.error(Message.DUPLICATE_MOBILE_NUMBER);
-                    throw new DuplicateResourceException(
-                            Message.DUPLICATE_MOBILE_NUMBER);
-                });
-
-        registrationRepository.findByEmail(registrationDto.getEmail())
-                .ifPresent(existingUser -> {
-                    LOGGER.error(Message.DUPLICATE_EMAIL);
-                    throw new DuplicateResourceException(
-                            Message.DUPLICATE_EMAIL);
-                });
-
         Registration newRegistration = dtoToRegistration(registrationDto);
         newRegistration.setPassword(
                 passwordEncoder.encode(registrationDto.getPassword()));
-        registrationRepository.save(newRegistration);
+        try {
+            registrationRepository.saveAndFlush(newRegistration);
+        } catch (DataIntegrityViolationException exception) {
+            throw duplicateField(registrationDto, exception);
+        }
         return new SuccessResponse(HttpStatus.CREATED.value(),
            registrationDto.getFirstName() + Message.REGISTERED_SUCCESSFULLY);
     }
 
+    /**
+     * Translates a rejected registration insert into the exception to throw,
+     * naming the field that is already registered. A constraint created
+     * under another name by an older schema is told apart by looking the
+     * values up, which only happens once the insert has failed.
+     * @param registrationDto The rejected registration.
+     * @param exception The exception thrown by the insert.
+     * @return A DuplicateResourceException for the taken mobile number or
+     *         email, otherwise the exception itself.
+     */
+    private RuntimeException duplicateField(
+            final RegistrationDto registrationDto,
+            final DataIntegrityViolationException exception) {
+        String message;
+        if (ConstraintViolations.violates(exception,
+                Registration.MOBILE_NUMBER_CONSTRAINT)) {
+            message = Message.DUPLICATE_MOBILE_NUMBER;
+        } else if (ConstraintViolations.violates(exception,
+                Registration.EMAIL_CONSTRAINT)) {
+            message = Message.DUPLICATE_EMAIL;
+        } else if (registrationRepository
+                .findByMobileNumber(registrationDto.getMobileNumber())
+                .isPresent()) {
+            message = Message.DUPLICATE_MOBILE_NUMBER;
+        } else if (registrationRepository
+                .findByEmail(registrationDto.getEmail()).isPresent()) {
+            message = Message.DUPLICATE_EMAIL;
+        } else {
+            return exception;
+        }
+        LOGGER.error(message);
+        return new DuplicateResourceException(message);
+    }
+
     /**
      * Retrieves a list of all user registrations.
      * @return A list of RegistrationDto objects representing user
@@ -136,6 +164,28 @@ public class RegistrationServiceImpl implements RegistrationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves one slice of the user registrations ordered by ID.
+     * @param after Only users with a greater ID are returned, may be null.
+     * @param page  The zero based page number, may be null.
+     * @param size  The slice size, may be null.
+     * @return The slice of RegistrationDtos and the cursor of the next slice.
+     */
+    @Override
+    public final SliceResponse<RegistrationDto> getRegistrationSlice(
+            final Integer after, final Integer page, final Integer size) {
+        Slice<Registration> slice = registrationRepository
+                .findByUserIdGreaterThan(after == null ? 0 : after,
+                        SliceResponse.pageRequest(page, size, "userId"));
+        List<Registration> registrations = slice.getContent();
+        Integer nextCursor = slice.hasNext()
+                ? registrations.get(registrations.size() - 1).getUserId()
+                : null;
+        return new SliceResponse<>(registrations.stream()
+                .map(this::registrationToDto)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
     /**
      * Logs in a user.
      * @param inputRegistrationDto The DTO containing user login credentials.
@@ -217,4 +267,21 @@ public class RegistrationServiceImpl implements RegistrationService {
         });
     }
 
+    /**
+     * Retrieves the users matching the given emails with one query.
+     * @param emails The emails of the users to retrieve.
+     * @return A map of email to RegistrationDto; unknown emails are omitted.
+     */
+    @Override
+    public final Map<String, RegistrationDto> getUsersByEmails(
+            final Set<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return Map.of();
+        }
+        return registrationRepository.findByEmailIn(emails).stream()
+                .map(this::registrationToDto)
+                .collect(Collectors.toMap(RegistrationDto::getEmail,
+                        registrationDto -> registrationDto));
+    }
+
 }
@@ -61,6 +61,13 @@ public final class RegistrationLoggerMessage {
     public static final String USER_BY_EMAIL =
             "Received a request for get user by email.";
 
+    /**
+     * Log message indicating that a request has been received to get users by
+     * a set of emails.
+     */
+    public static final String USERS_BY_EMAILS =
+            "Received a request for get users by {} emails.";
+
     /**
      * Log message indicating that a user has been retrieved successfully by
      * email.
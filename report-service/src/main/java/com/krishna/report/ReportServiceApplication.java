@@ -1,29 +1,88 @@
 package com.krishna.report;
 
-import org.modelmapper.ModelMapper;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 
+import com.krishna.report.dto.RegistrationDto;
+import com.krishna.report.repository.ReportRepository;
+import com.krishna.report.service.implementation.ReportWriteQueue;
+import com.krishna.report.utility.NearCache;
+
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
 public class ReportServiceApplication {
 
+    /**
+     * Number of threads used for concurrent remote enrichment lookups.
+     */
+    private static final int ENRICHMENT_THREADS = 8;
+
 	public static void main(String[] args) {
 		SpringApplication.run(ReportServiceApplication.class, args);
 	}
 
-	/**
-     * Creates and returns an instance of ModelMapper, which is used for object
-     * mapping.
+    /**
+     * Creates the executor used to run remote lookups of report enrichment
+     * concurrently.
+     *
+     * @return A fixed size thread pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService enrichmentExecutor() {
+        return Executors.newFixedThreadPool(ENRICHMENT_THREADS);
+    }
+
+    /**
+     * Creates the cache of users fetched from the registration service.
      *
-     * @return An instance of ModelMapper.
+     * @param maxSize The maximum number of cached users.
+     * @param ttl     How long a user is served from the cache.
+     * @return The user near cache.
      */
     @Bean
-    public ModelMapper getModelMapper() {
-        return new ModelMapper();
+    public NearCache<String, RegistrationDto> userCache(
+            @Value("${near-cache.user.max-size:1000}") final int maxSize,
+            @Value("${near-cache.user.ttl:10m}") final Duration ttl) {
+        return new NearCache<>("user", maxSize, ttl);
+    }
+
+    /**
+     * Creates the write-behind queue that group commits submitted reports.
+     * Only created when report.write-behind.enabled is true; reports are
+     * otherwise saved synchronously.
+     *
+     * @param reportRepository The repository used to save the reports.
+     * @param capacity         The most reports waiting at once.
+     * @param maxBatchSize     The most reports committed together.
+     * @param maxDelay         The longest a report waits for a group.
+     * @param commitTimeout    The longest a durable submit waits for its
+     *                         report to be committed.
+     * @return The report write queue.
+     */
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "report.write-behind.enabled",
+            havingValue = "true")
+    public ReportWriteQueue reportWriteQueue(
+            final ReportRepository reportRepository,
+            @Value("${report.write-behind.queue-capacity:10000}")
+            final int capacity,
+            @Value("${report.write-behind.max-batch-size:200}")
+            final int maxBatchSize,
+            @Value("${report.write-behind.max-delay:5ms}")
+            final Duration maxDelay,
+            @Value("${report.write-behind.commit-timeout:10s}")
+            final Duration commitTimeout) {
+        return new ReportWriteQueue(reportRepository, capacity, maxBatchSize,
+                maxDelay, commitTimeout);
     }
 }
@@ -5,7 +5,9 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,11 +15,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.krishna.report.dto.ReportBatchResult;
 import com.krishna.report.dto.ReportDto;
+import com.krishna.report.exception.InvalidRequestException;
 import com.krishna.report.service.ReportService;
+import com.krishna.report.utility.Message;
 import com.krishna.report.utility.ReportLoggerMessage;
+import com.krishna.report.utility.SliceResponse;
 import com.krishna.report.utility.SuccessResponse;
 
 import java.util.List;
@@ -25,7 +33,7 @@ import java.util.List;
 /**
  * Controller class for managing Reports.
  */
-@CrossOrigin
+@CrossOrigin(exposedHeaders = SliceResponse.NEXT_CURSOR_HEADER)
 @RestController
 @RequestMapping("/api/reports")
 public class ReportController {
@@ -36,6 +44,12 @@ public class ReportController {
     @Autowired
     private ReportService reportService;
 
+    /**
+     * The most reports accepted in one batch.
+     */
+    @Value("${report.batch.max-size:500}")
+    private int maxBatchSize;
+
     /**
      * this is logger object that is use to generate log.
      */
@@ -45,15 +59,49 @@ public class ReportController {
     /**
      * Adds a new quiz.
      * @param reportDto The reportDto object containing report information.
-     * @return A message indicating the result of the report addition.
+     * @param durable Whether to answer only once the report is committed;
+     *                when false and write-behind is enabled, the report is
+     *                acknowledged as soon as it is queued.
+     * @return A message indicating the result of the report addition, with
+     * HTTP status 201 (Created), or 202 (Accepted) when only queued.
      */
     @PostMapping
     public final ResponseEntity<SuccessResponse> createReport(
-            @Valid @RequestBody final ReportDto reportDto) {
+            @Valid @RequestBody final ReportDto reportDto,
+            @RequestParam(defaultValue = "true") final boolean durable) {
         LOGGER.info(ReportLoggerMessage.CREATE_REPORT_REQUEST);
-        SuccessResponse result = reportService.createReport(reportDto);
+        SuccessResponse result = reportService.createReport(reportDto,
+                durable);
         LOGGER.info(ReportLoggerMessage.REPORT_GENERATED_SUCCESSFULLY);
-        return new ResponseEntity<>(result, HttpStatus.CREATED);
+        return new ResponseEntity<>(result,
+                HttpStatus.valueOf(result.getStatusCode()));
+    }
+
+    /**
+     * Adds many reports at once, typically flushed by a client or proctoring
+     * station when a timed exam ends. Every report gets its own result; the
+     * users and quizzes are checked once per batch and the reports are saved
+     * in one transaction, so a batch holds at most report.batch.max-size
+     * reports.
+     * @param reportDtos The reports to add.
+     * @return The result of every report with HTTP status 201 (Created) when
+     * any report was saved, or 400 (Bad Request) otherwise.
+     * @throws InvalidRequestException If the batch holds too many reports.
+     */
+    @PostMapping("/batch")
+    public final ResponseEntity<ReportBatchResult> createReports(
+            @RequestBody final List<ReportDto> reportDtos) {
+        LOGGER.info(ReportLoggerMessage.CREATE_REPORTS_REQUEST,
+                reportDtos.size());
+        if (reportDtos.size() > maxBatchSize) {
+            throw new InvalidRequestException(Message.BATCH_TOO_LARGE
+                    + maxBatchSize + ", was " + reportDtos.size());
+        }
+        ReportBatchResult result = reportService.createReports(reportDtos);
+        LOGGER.info(ReportLoggerMessage.REPORTS_CREATED, result.getCreated(),
+                result.getReceived());
+        return new ResponseEntity<>(result, result.getCreated() > 0
+                ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
     }
 
     /**
@@ -72,14 +120,39 @@ public class ReportController {
     }
 
     /**
-     * Retrieves a list of all reports.
+     * Retrieves a list of all reports, or one slice of it when any of the
+     * paging parameters is given.
+     * @param page The zero based page number.
+     * @param size The number of reports per slice.
+     * @param after Only reports with a greater ID are returned.
      * @return A list of reportDto objects representing all reports.
      */
     @GetMapping("/all")
-    public final ResponseEntity<List<ReportDto>> getAllReports() {
+    public final ResponseEntity<List<ReportDto>> getAllReports(
+            @RequestParam(required = false) final Integer page,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Integer after) {
         LOGGER.info(ReportLoggerMessage.GET_ALL_REPORTS_REQUEST);
+        if (page != null || size != null || after != null) {
+            return reportService.getReportSlice(after, page, size)
+                    .toResponseEntity();
+        }
         List<ReportDto> reportDtos = reportService.getAllReport();
         LOGGER.info(ReportLoggerMessage.ALL_REPORTS_RETRIEVED_SUCCESSFULLY);
         return new ResponseEntity<>(reportDtos, HttpStatus.OK);
     }
+
+    /**
+     * Exports all reports as newline delimited JSON. The reports are written
+     * to the response while they are read, so the export is never held in
+     * memory as a whole.
+     * @return A streaming body writing one reportDto per line.
+     */
+    @GetMapping(value = "/export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public final ResponseEntity<StreamingResponseBody> exportReports() {
+        LOGGER.info(ReportLoggerMessage.EXPORT_REPORTS_REQUEST);
+        StreamingResponseBody body = reportService::exportReports;
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
 }
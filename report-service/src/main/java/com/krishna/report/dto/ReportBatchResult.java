@@ -0,0 +1,33 @@
+package com.krishna.report.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The outcome of a batch report submission: how many reports were saved,
+ * and the result of each one in submission order.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class ReportBatchResult {
+
+    /**
+     * The number of reports submitted.
+     */
+    private int received;
+
+    /**
+     * The number of reports saved.
+     */
+    private int created;
+
+    /**
+     * The result of every report, in submission order.
+     */
+    private List<ReportItemResult> results = new ArrayList<>();
+}
@@ -0,0 +1,40 @@
+package com.krishna.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The outcome of one report of a batch submission.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportItemResult {
+
+    /**
+     * The zero based position of the report in the submitted batch.
+     */
+    private int index;
+
+    /**
+     * The HTTP status the report would have got on its own: 201 when it
+     * was saved, 400 or 404 when it was rejected.
+     */
+    private int statusCode;
+
+    /**
+     * The ID of the saved report, absent when it was rejected.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer reportId;
+
+    /**
+     * The success message, or the reason the report was rejected.
+     */
+    private String message;
+}
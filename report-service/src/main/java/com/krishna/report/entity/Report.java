@@ -5,7 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,8 +21,11 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_report_user_email_id",
+        columnList = "userEmailId, reportId"))
 @SequenceGenerator(name = "reportSeq",
-initialValue = Report.ID_INITIAL_VALUE, allocationSize = 1)
+initialValue = Report.ID_INITIAL_VALUE,
+allocationSize = Report.ID_ALLOCATION_SIZE)
 public class Report {
 
     /**
@@ -28,6 +33,11 @@ public class Report {
      */
     public static final int ID_INITIAL_VALUE = 6010;
 
+    /**
+     * Constant for the number of report IDs reserved per sequence query.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * The ID of the report.
      */
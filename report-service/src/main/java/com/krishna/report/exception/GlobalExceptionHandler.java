@@ -3,6 +3,7 @@ package com.krishna.report.exception;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -70,6 +71,21 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * Handles InvalidRequestException by returning a response with a "Bad
+     * Request" status.
+     * @param exception The InvalidRequestException to handle.
+     * @return A ResponseEntity with a "Bad Request" status and an error
+     *         message.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public final ResponseEntity<ErrorResponse> handleInvalidRequest(
+            final InvalidRequestException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(), exception.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles HttpMessageNotReadableException by returning.
      *  a response with a "Not Found" status.
@@ -84,4 +100,38 @@ public class GlobalExceptionHandler {
                 "please enter the request body.");
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * Handles RejectedExecutionException, raised when the write-behind queue
+     * is full, by returning a response with a "Service Unavailable" status
+     * so that the client retries later.
+     * @param exception The RejectedExecutionException to handle.
+     * @return A ResponseEntity with a "Service Unavailable" status and an
+     *         error message.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public final ResponseEntity<ErrorResponse> handleRejectedExecution(
+            final RejectedExecutionException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage());
+        return new ResponseEntity<>(errorResponse,
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles ReportNotConfirmedException, raised when a queued report is
+     * not confirmed as saved in time, by returning a response with a
+     * "Service Unavailable" status.
+     * @param exception The ReportNotConfirmedException to handle.
+     * @return A ResponseEntity with a "Service Unavailable" status and an
+     *         error message.
+     */
+    @ExceptionHandler(ReportNotConfirmedException.class)
+    public final ResponseEntity<ErrorResponse> handleReportNotConfirmed(
+            final ReportNotConfirmedException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage());
+        return new ResponseEntity<>(errorResponse,
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
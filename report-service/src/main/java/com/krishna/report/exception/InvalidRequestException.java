@@ -0,0 +1,23 @@
+package com.krishna.report.exception;
+
+import org.springframework.http.HttpStatus;
+
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for indicating invalid request parameters.
+ */
+@SuppressWarnings("serial")
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidRequestException with the specified error
+     * message.
+     *
+     * @param message The error message.
+     */
+    public InvalidRequestException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.krishna.report.exception;
+
+import org.springframework.http.HttpStatus;
+
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception for indicating that a queued report was not confirmed
+ * as saved in time.
+ */
+@SuppressWarnings("serial")
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ReportNotConfirmedException extends RuntimeException {
+
+    /**
+     * Constructs a new ReportNotConfirmedException with the specified error
+     * message.
+     *
+     * @param message The error message.
+     */
+    public ReportNotConfirmedException(final String message) {
+        super(message);
+    }
+}
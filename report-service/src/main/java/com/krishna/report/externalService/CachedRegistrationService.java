@@ -0,0 +1,53 @@
+package com.krishna.report.externalService;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.krishna.report.dto.RegistrationDto;
+import com.krishna.report.utility.NearCache;
+
+/**
+ * User lookups served from the local user cache, falling back to the
+ * registration service on a miss. Registered users are never updated, so
+ * entries only leave the cache by expiry or size. Cached users are shared
+ * between callers and must not be modified.
+ */
+@Component
+public class CachedRegistrationService {
+
+    /**
+     * This is use to call the registration service.
+     */
+    @Autowired
+    private RegistrationService registrationService;
+
+    /**
+     * This is use to keep recently fetched users by email.
+     */
+    @Autowired
+    private NearCache<String, RegistrationDto> userCache;
+
+    /**
+     * Retrieves a user by email.
+     * @param emailId The email of the user.
+     * @return The registrationDto.
+     */
+    public RegistrationDto getUser(final String emailId) {
+        return userCache.get(emailId, registrationService::getUser);
+    }
+
+    /**
+     * Retrieves the users matching the given emails, fetching only the ones
+     * not cached with a single batch call.
+     * @param emailIds The emails of the users.
+     * @return A map of email to registrationDto; unknown emails are omitted.
+     */
+    public Map<String, RegistrationDto> getUsersByEmails(
+            final Set<String> emailIds) {
+        return userCache.getAll(emailIds,
+                registrationService::getUsersByEmails);
+    }
+}
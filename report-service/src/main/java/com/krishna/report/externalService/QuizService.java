@@ -1,8 +1,13 @@
 package com.krishna.report.externalService;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.krishna.report.dto.QuizDto;
 import com.krishna.report.errorHandler.CustomErrorDecoder;
@@ -12,5 +17,8 @@ public interface QuizService {
 
 	@GetMapping("/quizzes/{quizId}")
     QuizDto getQuizById(@PathVariable final Integer quizId);
+
+	@PostMapping("/quizzes/batch")
+	Map<Integer, QuizDto> getQuizzesByIds(@RequestBody Set<Integer> quizIds);
 	
 }
@@ -1,8 +1,13 @@
 package com.krishna.report.externalService;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.krishna.report.dto.RegistrationDto;
 import com.krishna.report.errorHandler.CustomErrorDecoder;
@@ -16,4 +21,7 @@ public interface RegistrationService {
 	  
 	  @GetMapping("/users/getUser/{emailId}")
 	  RegistrationDto getUser(@PathVariable("emailId") String emailId);
+
+	  @PostMapping("/users/batch")
+	  Map<String, RegistrationDto> getUsersByEmails(@RequestBody Set<String> emailIds);
 }
@@ -0,0 +1,73 @@
+package com.krishna.report.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.krishna.report.dto.ReportDto;
+import com.krishna.report.entity.Report;
+import com.krishna.report.repository.ReportRow;
+
+/**
+ * Maps between {@link Report} entities and {@link ReportDto} objects by
+ * copying every shared property explicitly. The user and quiz of a reportDto
+ * are not part of the entity and are attached separately.
+ */
+@Component
+public class ReportMapper {
+
+    /**
+     * Converts a {@link Report} entity into a {@link ReportDto}.
+     * @param report The {@link Report} entity to convert.
+     * @return The converted {@link ReportDto}.
+     */
+    public ReportDto toDto(final Report report) {
+        ReportDto reportDto = new ReportDto();
+        reportDto.setReportId(report.getReportId());
+        reportDto.setUserEmailId(report.getUserEmailId());
+        reportDto.setQuizId(report.getQuizId());
+        reportDto.setTotalMarks(report.getTotalMarks());
+        reportDto.setMarksObtained(report.getMarksObtained());
+        reportDto.setTotalQuestions(report.getTotalQuestions());
+        reportDto.setAttemptedQuestions(report.getAttemptedQuestions());
+        reportDto.setDateAndTime(report.getDateAndTime());
+        reportDto.setWrongAnswers(report.getWrongAnswers());
+        return reportDto;
+    }
+
+    /**
+     * Converts a projected {@link ReportRow} into a {@link ReportDto}.
+     * @param row The {@link ReportRow} to convert.
+     * @return The converted {@link ReportDto}.
+     */
+    public ReportDto toDto(final ReportRow row) {
+        ReportDto reportDto = new ReportDto();
+        reportDto.setReportId(row.reportId());
+        reportDto.setUserEmailId(row.userEmailId());
+        reportDto.setQuizId(row.quizId());
+        reportDto.setTotalMarks(row.totalMarks());
+        reportDto.setMarksObtained(row.marksObtained());
+        reportDto.setTotalQuestions(row.totalQuestions());
+        reportDto.setAttemptedQuestions(row.attemptedQuestions());
+        reportDto.setDateAndTime(row.dateAndTime());
+        reportDto.setWrongAnswers(row.wrongAnswers());
+        return reportDto;
+    }
+
+    /**
+     * Converts a {@link ReportDto} object into a {@link Report} entity.
+     * @param reportDto The {@link ReportDto} to convert.
+     * @return The converted {@link Report} entity.
+     */
+    public Report toEntity(final ReportDto reportDto) {
+        Report report = new Report();
+        report.setReportId(reportDto.getReportId());
+        report.setUserEmailId(reportDto.getUserEmailId());
+        report.setQuizId(reportDto.getQuizId());
+        report.setTotalMarks(reportDto.getTotalMarks());
+        report.setMarksObtained(reportDto.getMarksObtained());
+        report.setTotalQuestions(reportDto.getTotalQuestions());
+        report.setAttemptedQuestions(reportDto.getAttemptedQuestions());
+        report.setDateAndTime(reportDto.getDateAndTime());
+        report.setWrongAnswers(reportDto.getWrongAnswers());
+        return report;
+    }
+}
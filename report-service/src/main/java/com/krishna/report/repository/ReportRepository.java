@@ -1,7 +1,18 @@
 package com.krishna.report.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 import com.krishna.report.entity.Report;
 
@@ -16,5 +27,40 @@ public interface ReportRepository extends JpaRepository<Report, Integer> {
      * @return An Optional containing the found Registration entity, if any.
      */
     List<Report> findByUserEmailId(String email);
+
+    /**
+     * Reads the columns of the reports of a user into rows, oldest first,
+     * without hydrating managed entities. The reports are ordered by ID,
+     * which follows submission order; the date is free-form text and does
+     * not sort chronologically.
+     * @param email The email of the user.
+     * @return The rows of the reports of the user.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.krishna.report.repository.ReportRow(r.reportId, "
+            + "r.userEmailId, r.quizId, r.totalMarks, r.marksObtained, "
+            + "r.wrongAnswers, r.totalQuestions, r.attemptedQuestions, "
+            + "r.dateAndTime) from Report r where r.userEmailId = :email "
+            + "order by r.reportId")
+    List<ReportRow> findRowsByUserEmailId(@Param("email") String email);
+
+    /**
+     * Finds one slice of the reports whose ID is greater than the cursor.
+     * @param reportId The cursor; only reports after it are returned.
+     * @param pageable The size, page and ordering of the slice.
+     * @return A slice of reports, without a total count query.
+     */
+    Slice<Report> findByReportIdGreaterThan(int reportId, Pageable pageable);
+
+    /**
+     * Streams all reports ordered by ID, reading them from the database in
+     * chunks of the fetch size instead of loading the whole table. Must be
+     * consumed inside a transaction and closed afterwards.
+     * @return A stream of all reports.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+            value = "500"))
+    @Query("select r from Report r order by r.reportId")
+    Stream<Report> streamAllOrderByReportId();
 }
 
@@ -0,0 +1,19 @@
+package com.krishna.report.repository;
+
+/**
+ * The columns of a report that a reportDto is built from, selected straight
+ * into a record so list queries skip entity hydration and dirty checking.
+ * @param reportId The ID of the report.
+ * @param userEmailId The email of the user.
+ * @param quizId The ID of the attempted quiz.
+ * @param totalMarks The total marks of the quiz.
+ * @param marksObtained The marks obtained.
+ * @param wrongAnswers The number of wrong answers.
+ * @param totalQuestions The number of questions of the quiz.
+ * @param attemptedQuestions The number of attempted questions.
+ * @param dateAndTime When the quiz was attempted.
+ */
+public record ReportRow(int reportId, String userEmailId, int quizId,
+        Integer totalMarks, int marksObtained, int wrongAnswers,
+        int totalQuestions, int attemptedQuestions, String dateAndTime) {
+}
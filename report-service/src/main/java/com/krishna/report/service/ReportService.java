@@ -1,8 +1,12 @@
 package com.krishna.report.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
+import com.krishna.report.dto.ReportBatchResult;
 import com.krishna.report.dto.ReportDto;
+import com.krishna.report.utility.SliceResponse;
 import com.krishna.report.utility.SuccessResponse;
 
 
@@ -18,6 +22,21 @@ public interface ReportService {
      */
     SuccessResponse createReport(ReportDto reportDto);
 
+    /**
+     * Adds a new report, optionally without waiting for its commit.
+     * @param reportDto The DTO containing report information.
+     * @param durable Whether to return only once the report is committed.
+     * @return A message indicating the result of the operation.
+     */
+    SuccessResponse createReport(ReportDto reportDto, boolean durable);
+
+    /**
+     * Adds many reports at once.
+     * @param reportDtos The submitted reports.
+     * @return The result of every report, in submission order.
+     */
+    ReportBatchResult createReports(List<ReportDto> reportDtos);
+
     /**
      * Updates a category.
      * @param email to get report by email .
@@ -30,4 +49,21 @@ public interface ReportService {
      * @return The List Of Questions  Entity.
      */
     List<ReportDto> getAllReport();
+
+    /**
+     * Get one slice of the reports ordered by ID.
+     * @param after Only reports with a greater ID are returned, may be null.
+     * @param page The zero based page number, may be null.
+     * @param size The slice size, may be null.
+     * @return The slice of reports and the cursor of the next slice.
+     */
+    SliceResponse<ReportDto> getReportSlice(Integer after, Integer page,
+            Integer size);
+
+    /**
+     * Writes all reports as newline delimited JSON, one report per line.
+     * @param outputStream The stream to write the reports to.
+     * @throws IOException If writing to the stream fails.
+     */
+    void exportReports(OutputStream outputStream) throws IOException;
 }
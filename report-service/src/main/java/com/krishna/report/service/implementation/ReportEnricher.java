@@ -0,0 +1,110 @@
+package com.krishna.report.service.implementation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.krishna.report.dto.QuizDto;
+import com.krishna.report.dto.RegistrationDto;
+import com.krishna.report.dto.ReportDto;
+import com.krishna.report.exception.ResourceNotFoundException;
+import com.krishna.report.externalService.QuizService;
+import com.krishna.report.externalService.CachedRegistrationService;
+import com.krishna.report.utility.Message;
+
+/**
+ * Attaches user and quiz details to reports. The distinct emails and quiz
+ * IDs of a set of reports are resolved through the batch endpoints of the
+ * registration and quiz services, both lookups run concurrently, and the
+ * results are joined in memory. As when every report was looked up on its
+ * own, a user or quiz that no longer exists fails the whole call.
+ */
+@Component
+public class ReportEnricher {
+
+    /**
+     * This is use to look up users through the local user cache.
+     */
+    @Autowired
+    private CachedRegistrationService registrationService;
+
+    /**
+     * This is use to call the quiz service.
+     */
+    @Autowired
+    private QuizService quizService;
+
+    /**
+     * Executor that runs the user lookup alongside the quiz lookup.
+     */
+    @Autowired
+    private ExecutorService enrichmentExecutor;
+
+    /**
+     * Sets the user and quiz of every report.
+     * @param reportDtos The reports to enrich.
+     * @return The same list, with users and quizzes attached.
+     * @throws ResourceNotFoundException If the user or quiz of a report
+     *         does not exist.
+     */
+    public List<ReportDto> enrich(final List<ReportDto> reportDtos) {
+        if (reportDtos.isEmpty()) {
+            return reportDtos;
+        }
+        Set<String> emails = reportDtos.stream()
+                .map(ReportDto::getUserEmailId)
+                .collect(Collectors.toSet());
+        Set<Integer> quizIds = reportDtos.stream()
+                .map(ReportDto::getQuizId)
+                .collect(Collectors.toSet());
+
+        CompletableFuture<Map<String, RegistrationDto>> usersFuture =
+                CompletableFuture.supplyAsync(
+                        () -> registrationService.getUsersByEmails(emails),
+                        enrichmentExecutor);
+        Map<Integer, QuizDto> quizzes = quizService.getQuizzesByIds(quizIds);
+        Map<String, RegistrationDto> users = join(usersFuture);
+
+        reportDtos.forEach(reportDto -> {
+            RegistrationDto user = users.get(reportDto.getUserEmailId());
+            if (user == null) {
+                throw new ResourceNotFoundException(
+                        Message.USER_NOT_FOUND_BY_EMAIL
+                        + reportDto.getUserEmailId());
+            }
+            QuizDto quiz = quizzes.get(reportDto.getQuizId());
+            if (quiz == null) {
+                throw new ResourceNotFoundException(
+                        Message.QUIZ_NOT_FOUND + reportDto.getQuizId());
+            }
+            reportDto.setUser(user);
+            reportDto.setQuiz(quiz);
+        });
+        return reportDtos;
+    }
+
+    /**
+     * Waits for a lookup and rethrows its original exception, so that errors
+     * from the Feign error decoder still reach the exception handler.
+     * @param future The lookup to wait for.
+     * @param <T> The result type of the lookup.
+     * @return The result of the lookup.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
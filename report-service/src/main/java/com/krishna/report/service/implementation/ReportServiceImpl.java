@@ -2,31 +2,52 @@ package com.krishna.report.service.implementation;
 
 
 
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.krishna.report.controller.ReportController;
 import com.krishna.report.dto.QuizDto;
 import com.krishna.report.dto.RegistrationDto;
+import com.krishna.report.dto.ReportBatchResult;
 import com.krishna.report.dto.ReportDto;
+import com.krishna.report.dto.ReportItemResult;
 import com.krishna.report.entity.Report;
 import com.krishna.report.exception.ResourceNotFoundException;
 import com.krishna.report.externalService.QuizService;
-import com.krishna.report.externalService.RegistrationService;
+import com.krishna.report.mapper.ReportMapper;
+import com.krishna.report.externalService.CachedRegistrationService;
 import com.krishna.report.repository.ReportRepository;
+import com.krishna.report.repository.ReportRow;
 import com.krishna.report.service.ReportService;
 import com.krishna.report.utility.Message;
+import com.krishna.report.utility.SliceResponse;
 import com.krishna.report.utility.SuccessResponse;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the ReportService interface for managing Report.
@@ -34,6 +55,16 @@ import java.util.stream.Collectors;
 @Service
 public class ReportServiceImpl implements ReportService {
 
+    /**
+     * Number of reports enriched and written per batch of an export.
+     */
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    /**
+     * Line separator of the newline delimited JSON export.
+     */
+    private static final byte NEW_LINE = '\n';
+
     /**
      * This is Report Repository object that is for calling. the repository.
      * methods.
@@ -42,17 +73,57 @@ public class ReportServiceImpl implements ReportService {
     private ReportRepository reportRepository;
 
     /**
-     * This is use to map the category with Dto and viceversa.
+     * This is use to map the report with Dto and viceversa.
      */
     @Autowired
-    private ModelMapper modelMapper;
+    private ReportMapper reportMapper;
     
+    /**
+     * This is use to look up users through the local user cache.
+     */
     @Autowired
-    private RegistrationService registrationService;
+    private CachedRegistrationService registrationService;
     
     @Autowired
     private QuizService quizService;
 
+    /**
+     * This is use to attach user and quiz details to reports.
+     */
+    @Autowired
+    private ReportEnricher reportEnricher;
+
+    /**
+     * This is use to group commit reports when write-behind is enabled; null
+     * when reports are saved synchronously.
+     */
+    @Autowired(required = false)
+    private ReportWriteQueue reportWriteQueue;
+
+    /**
+     * This is use to check the constraints of batch submitted reports.
+     */
+    @Autowired
+    private Validator validator;
+
+    /**
+     * This is use to write reports as JSON.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * This is use to detach exported reports from the persistence context.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * This is use to keep the export cursor inside a read only transaction.
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * this is logger object that is use to generate log.
      */
@@ -60,12 +131,27 @@ public class ReportServiceImpl implements ReportService {
             .getLogger(ReportController.class);
 
     /**
-     * Adds a new report.
+     * Adds a new report and returns once it is committed.
      * @param reportDto To find the questions.
      * @return A message indicating the result of the operation.
      */
     @Override
     public final SuccessResponse createReport(final ReportDto reportDto) {
+        return createReport(reportDto, true);
+    }
+
+    /**
+     * Adds a new report. With write-behind enabled the report is queued for
+     * the next group commit; a durable request then waits for that commit,
+     * any other returns as soon as the report is queued.
+     * @param reportDto To find the questions.
+     * @param durable Whether to return only once the report is committed.
+     * @return A message indicating the result of the operation: created, or
+     *         accepted when the report is queued but not yet committed.
+     */
+    @Override
+    public final SuccessResponse createReport(final ReportDto reportDto,
+            final boolean durable) {
         Report report = convertIntoEntity(reportDto);
         
         Optional<RegistrationDto> existingUser = Optional.ofNullable(
@@ -82,45 +168,125 @@ public class ReportServiceImpl implements ReportService {
                     Message.QUIZ_NOT_FOUND + reportDto.getUserEmailId());
         }
         
-        reportRepository.save(report);
+        if (reportWriteQueue == null) {
+            reportRepository.save(report);
+        } else if (durable) {
+            reportWriteQueue.submitAndWait(report);
+        } else {
+            reportWriteQueue.submit(report);
+            return new SuccessResponse(HttpStatus.ACCEPTED.value(),
+                    Message.REPORT_ACCEPTED);
+        }
         return new SuccessResponse(HttpStatus.CREATED.value(),
                 Message.REPORT_CREATED_SUCCESSFULLY);
 
     }
 
+    /**
+     * Saves many reports at once. The constraints of every report are
+     * checked first; the distinct users and quizzes of the valid reports are
+     * then resolved with one batch call each, and the reports whose user and
+     * quiz exist are saved together in one transaction, as JDBC batches.
+     * Rejected reports do not stop the others.
+     * @param reportDtos The submitted reports.
+     * @return The result of every report, in submission order.
+     */
+    @Override
+    public final ReportBatchResult createReports(
+            final List<ReportDto> reportDtos) {
+        ReportBatchResult batchResult = new ReportBatchResult();
+        batchResult.setReceived(reportDtos.size());
+        ReportItemResult[] results = new ReportItemResult[reportDtos.size()];
+
+        List<Integer> valid = new ArrayList<>(reportDtos.size());
+        for (int i = 0; i < reportDtos.size(); i++) {
+            ReportDto reportDto = reportDtos.get(i);
+            if (reportDto == null) {
+                results[i] = new ReportItemResult(i,
+                        HttpStatus.BAD_REQUEST.value(), null,
+                        Message.REPORT_EMPTY);
+                continue;
+            }
+            Set<ConstraintViolation<ReportDto>> violations =
+                    validator.validate(reportDto);
+            if (!violations.isEmpty()) {
+                results[i] = new ReportItemResult(i,
+                        HttpStatus.BAD_REQUEST.value(), null,
+                        violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining(" ")));
+                continue;
+            }
+            valid.add(i);
+        }
+
+        Map<String, RegistrationDto> users = valid.isEmpty() ? Map.of()
+                : registrationService.getUsersByEmails(valid.stream()
+                        .map(i -> reportDtos.get(i).getUserEmailId())
+                        .collect(Collectors.toSet()));
+        Map<Integer, QuizDto> quizzes = valid.isEmpty() ? Map.of()
+                : quizService.getQuizzesByIds(valid.stream()
+                        .map(i -> reportDtos.get(i).getQuizId())
+                        .collect(Collectors.toSet()));
+
+        List<Integer> accepted = new ArrayList<>(valid.size());
+        List<Report> reports = new ArrayList<>(valid.size());
+        for (int i : valid) {
+            ReportDto reportDto = reportDtos.get(i);
+            if (!users.containsKey(reportDto.getUserEmailId())) {
+                results[i] = new ReportItemResult(i,
+                        HttpStatus.NOT_FOUND.value(), null,
+                        Message.USER_NOT_FOUND_BY_EMAIL
+                                + reportDto.getUserEmailId());
+            } else if (!quizzes.containsKey(reportDto.getQuizId())) {
+                results[i] = new ReportItemResult(i,
+                        HttpStatus.NOT_FOUND.value(), null,
+                        Message.QUIZ_NOT_FOUND + reportDto.getQuizId());
+            } else {
+                accepted.add(i);
+                reports.add(convertIntoEntity(reportDto));
+            }
+        }
+
+        List<Report> saved = reportRepository.saveAll(reports);
+        for (int j = 0; j < accepted.size(); j++) {
+            int i = accepted.get(j);
+            results[i] = new ReportItemResult(i, HttpStatus.CREATED.value(),
+                    saved.get(j).getReportId(),
+                    Message.REPORT_CREATED_SUCCESSFULLY);
+        }
+        batchResult.setCreated(saved.size());
+        batchResult.setResults(Arrays.asList(results));
+        return batchResult;
+    }
+
     /**
      * Retrieves a list of all reports By email.
      * @return A list of reportDto objects representing report.
+     * @throws ResourceNotFoundException If the user has no reports, or no
+     *         longer exists.
      */
     @Override
     public final List<ReportDto> findReportByEmailId(final String email) {
 
-        List<Report> reports = reportRepository.findByUserEmailId(email);
-        if (reports.isEmpty()) {
+        List<ReportRow> rows = reportRepository.findRowsByUserEmailId(email);
+        if (rows.isEmpty()) {
             LOGGER.error(Message.REPORT_NOT_FOUND, email);
             throw new ResourceNotFoundException(
                     Message.REPORT_NOT_FOUND + email);
         }
-        RegistrationDto user = registrationService.getUser(email);
-
-        
-        List<ReportDto> reportDtos = reports.stream()
-                .map(this::convertIntoDto)
+        List<ReportDto> reportDtos = rows.stream()
+                .map(reportMapper::toDto)
                 .collect(Collectors.toList());
-
-        reportDtos.forEach(reportDto -> reportDto.setUser(user));
-
-        reportDtos.forEach(reportDto -> {
-            QuizDto quiz = quizService.getQuizById(reportDto.getQuizId());
-            reportDto.setQuiz(quiz);
-        });
-        
-        return reportDtos;
+        return reportEnricher.enrich(reportDtos);
     }
 
     /**
      * Retrieves a list of all reports By email of all users.
      * @return A list of reportDto objects representing report.
+     * @throws ResourceNotFoundException If there are no reports, or the user
+     *         or quiz of a report no longer exists.
      */
     @Override
     public final List<ReportDto> getAllReport() {
@@ -134,61 +300,117 @@ public class ReportServiceImpl implements ReportService {
         List<ReportDto> reportDtos = reports.stream()
                 .map(this::convertIntoDto)
                 .collect(Collectors.toList());
+        return reportEnricher.enrich(reportDtos);
+    }
 
-        // Get all unique user emails from the reports
-        Set<String> userEmails = reports.stream()
-                .map(Report::getUserEmailId)
-                .collect(Collectors.toSet());
-
-        // Fetch users for all unique emails
-        Map<String, RegistrationDto> usersMap = userEmails.stream()
-                .collect(Collectors.toMap(
-                        email -> email,
-                        email -> registrationService.getUser(email)
-                ));
+    /**
+     * Retrieves one slice of the reports ordered by ID. An empty slice is
+     * a valid end of iteration, so unlike getAllReport it does not throw.
+     * @param after Only reports with a greater ID are returned, may be null.
+     * @param page The zero based page number, may be null.
+     * @param size The slice size, may be null.
+     * @return The slice of reports and the cursor of the next slice.
+     */
+    @Override
+    public final SliceResponse<ReportDto> getReportSlice(final Integer after,
+            final Integer page, final Integer size) {
+        Slice<Report> slice = reportRepository.findByReportIdGreaterThan(
+                after == null ? 0 : after,
+                SliceResponse.pageRequest(page, size, "reportId"));
+        List<Report> reports = slice.getContent();
+        Integer nextCursor = slice.hasNext()
+                ? reports.get(reports.size() - 1).getReportId()
+                : null;
+        List<ReportDto> reportDtos = reports.stream()
+                .map(this::convertIntoDto)
+                .collect(Collectors.toList());
+        return new SliceResponse<>(reportEnricher.enrich(reportDtos),
+                nextCursor);
+    }
 
-        // Set user and quiz information in each ReportDto
-        reportDtos.forEach(reportDto -> {
-            RegistrationDto user = usersMap.get(reportDto.getUserEmailId());
-            reportDto.setUser(user);
+    /**
+     * Writes all reports as newline delimited JSON. Reports are read through
+     * a database cursor, enriched and written in batches of
+     * {@link #EXPORT_BATCH_SIZE}, and the output is flushed after every
+     * batch, so memory use does not grow with the number of reports.
+     * @param outputStream The stream to write the reports to.
+     * @throws IOException If writing to the stream fails.
+     */
+    @Override
+    public final void exportReports(final OutputStream outputStream)
+            throws IOException {
+        TransactionTemplate transaction =
+                new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        try {
+            transaction.executeWithoutResult(
+                    status -> writeReports(outputStream));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
 
-            QuizDto quiz = quizService.getQuizById(reportDto.getQuizId());
-            reportDto.setQuiz(quiz);
-        });
+    /**
+     * Streams the reports from the database and writes them in batches.
+     * Written reports are detached so the persistence context stays small.
+     * @param outputStream The stream to write the reports to.
+     */
+    private void writeReports(final OutputStream outputStream) {
+        List<ReportDto> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+        try (Stream<Report> reports =
+                reportRepository.streamAllOrderByReportId()) {
+            Iterator<Report> iterator = reports.iterator();
+            while (iterator.hasNext()) {
+                Report report = iterator.next();
+                batch.add(convertIntoDto(report));
+                entityManager.detach(report);
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    writeBatch(batch, outputStream);
+                }
+            }
+            writeBatch(batch, outputStream);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
 
-        return reportDtos;
+    /**
+     * Enriches a batch of reports, writes it as newline delimited JSON,
+     * flushes the output and clears the batch.
+     * @param batch The reports to write.
+     * @param outputStream The stream to write the reports to.
+     * @throws IOException If writing to the stream fails.
+     */
+    private void writeBatch(final List<ReportDto> batch,
+            final OutputStream outputStream) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (ReportDto reportDto : reportEnricher.enrich(batch)) {
+            outputStream.write(objectMapper.writeValueAsBytes(reportDto));
+            outputStream.write(NEW_LINE);
+        }
+        outputStream.flush();
+        batch.clear();
     }
 
 
     /**
-     * Converts a {@link ReportDto} object into a {@link Report} entity using
-     * ModelMapper.
+     * Converts a {@link ReportDto} object into a {@link Report} entity.
      * @param reportDto The {@link ReportDto} to convert.
      * @return The converted {@link Report} entity.
      */
     public Report convertIntoEntity(final ReportDto reportDto) {
-        return modelMapper.map(reportDto, Report.class);
+        return reportMapper.toEntity(reportDto);
     }
 
     /**
-     * Converts a {@link Report} entity into a {@link ReportDto} using
-     * ModelMapper.
+     * Converts a {@link Report} entity into a {@link ReportDto}.
      * @param report The {@link Report} entity to convert.
      * @return The converted {@link ReportDto}.
      */
     public ReportDto convertIntoDto(final Report report) {
-    	
-    	 ReportDto reportDto = new ReportDto();
-         reportDto.setReportId(report.getReportId());
-         reportDto.setUserEmailId(report.getUserEmailId());
-         reportDto.setQuizId(report.getQuizId());
-         reportDto.setTotalMarks(report.getTotalMarks());
-         reportDto.setMarksObtained(report.getMarksObtained());
-         reportDto.setTotalQuestions(report.getTotalQuestions());
-         reportDto.setAttemptedQuestions(report.getAttemptedQuestions());
-         reportDto.setDateAndTime(report.getDateAndTime());
-         reportDto.setWrongAnswers(report.getWrongAnswers());
-         return reportDto;
+        return reportMapper.toDto(report);
     }
 
 }
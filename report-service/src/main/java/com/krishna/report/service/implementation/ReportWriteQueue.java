@@ -0,0 +1,399 @@
+package com.krishna.report.service.implementation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.krishna.report.entity.Report;
+import com.krishna.report.exception.ReportNotConfirmedException;
+import com.krishna.report.repository.ReportRepository;
+import com.krishna.report.utility.Message;
+import com.krishna.report.utility.ReportLoggerMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * This class is the write-behind queue of submitted reports. Reports are
+ * put in a bounded in-memory queue and a single writer thread saves them
+ * in groups: a group is committed once it holds the maximum batch size or
+ * once its first report has waited the maximum delay, whichever comes
+ * first, so many submissions share one transaction and one JDBC batch.
+ * Callers get a future completed once their report is committed. Queue
+ * depth, batch size, commit latency and failures are published as metrics.
+ * On shutdown the queue stops taking reports before the writer is told to
+ * stop, so every accepted report is either written or, if the writer stops
+ * early, failed; no future is left incomplete.
+ */
+public class ReportWriteQueue implements MeterBinder {
+
+    /**
+     * How long the idle writer waits for a report before checking whether
+     * it has been stopped.
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /**
+     * How long shutdown waits for the queued reports to be written.
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    /**
+     * this is logger object that is use to generate log.
+     */
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(ReportWriteQueue.class);
+
+    /**
+     * A queued report and the future of its commit.
+     * @param report The report to save.
+     * @param committed Completed with the saved report once committed.
+     */
+    private record PendingReport(Report report,
+            CompletableFuture<Report> committed) {
+    }
+
+    /**
+     * This is use to save the reports.
+     */
+    private final ReportRepository reportRepository;
+
+    /**
+     * The reports waiting to be written.
+     */
+    private final BlockingQueue<PendingReport> queue;
+
+    /**
+     * The most reports committed together.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The longest a report waits for others to join its group, in
+     * nanoseconds.
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * The longest a caller waits for its report to be committed.
+     */
+    private final Duration commitTimeout;
+
+    /**
+     * The thread writing the queued reports.
+     */
+    private final Thread writer;
+
+    /**
+     * Whether the writer keeps taking reports.
+     */
+    private volatile boolean running;
+
+    /**
+     * Whether reports are accepted; only changed under the write lock of
+     * {@link #intakeLock}.
+     */
+    private boolean accepting;
+
+    /**
+     * Shared by submitters while they queue a report, and held exclusively
+     * to stop taking reports, so that no report is queued after the writer
+     * has been told to stop.
+     */
+    private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+
+    /**
+     * The time taken by each group commit.
+     */
+    private Timer commitLatency;
+
+    /**
+     * The number of reports per group commit.
+     */
+    private DistributionSummary batchSize;
+
+    /**
+     * The number of reports that could not be saved.
+     */
+    private Counter failures;
+
+    /**
+     * Constructs a write-behind queue; call {@link #start()} to start the
+     * writer.
+     * @param repository The repository used to save the reports.
+     * @param capacity The most reports waiting at once.
+     * @param batchLimit The most reports committed together.
+     * @param maxDelay The longest a report waits for others to join its
+     *                 group.
+     * @param commitWait The longest a caller waits for its report to be
+     *                   committed.
+     */
+    public ReportWriteQueue(final ReportRepository repository,
+            final int capacity, final int batchLimit,
+            final Duration maxDelay, final Duration commitWait) {
+        this.reportRepository = repository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = batchLimit;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.commitTimeout = commitWait;
+        this.writer = new Thread(this::writeLoop, "report-writer");
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    public void start() {
+        running = true;
+        intakeLock.writeLock().lock();
+        try {
+            accepting = true;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        writer.start();
+    }
+
+    /**
+     * Stops taking new reports and waits for the queued ones to be written.
+     * If the writer does not finish in time it is interrupted, and the
+     * reports it leaves are failed.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void shutdown() throws InterruptedException {
+        intakeLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        failLeftovers();
+    }
+
+    /**
+     * Queues a report for the next group commit.
+     * @param report The report to save.
+     * @return A future completed with the saved report once it is
+     *         committed, or exceptionally if it could not be saved.
+     * @throws RejectedExecutionException If the queue is full or stopped.
+     */
+    public CompletableFuture<Report> submit(final Report report) {
+        PendingReport pending =
+                new PendingReport(report, new CompletableFuture<>());
+        intakeLock.readLock().lock();
+        try {
+            if (!accepting) {
+                throw new RejectedExecutionException(
+                        Message.REPORT_QUEUE_STOPPED);
+            }
+            if (!queue.offer(pending)) {
+                throw new RejectedExecutionException(
+                        Message.REPORT_QUEUE_FULL);
+            }
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+        return pending.committed();
+    }
+
+    /**
+     * Queues a report and waits, up to the commit timeout, for it to be
+     * committed.
+     * @param report The report to save.
+     * @return The saved report.
+     * @throws RejectedExecutionException If the queue is full or stopped.
+     * @throws ReportNotConfirmedException If the commit is not confirmed in
+     *         time; the report may still be saved.
+     * @throws RuntimeException The exception the report failed with.
+     */
+    public Report submitAndWait(final Report report) {
+        CompletableFuture<Report> committed = submit(report);
+        try {
+            return committed.get(commitTimeout.toNanos(),
+                    TimeUnit.NANOSECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(exception.getCause());
+        } catch (TimeoutException exception) {
+            LOGGER.error(ReportLoggerMessage.REPORT_NOT_CONFIRMED,
+                    report.getUserEmailId(), commitTimeout);
+            throw new ReportNotConfirmedException(
+                    Message.REPORT_NOT_CONFIRMED);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ReportNotConfirmedException(
+                    Message.REPORT_NOT_CONFIRMED);
+        }
+    }
+
+    /**
+     * Getter for the number of queued reports.
+     * @return the number of reports waiting to be written.
+     */
+    public int depth() {
+        return queue.size();
+    }
+
+    /**
+     * Registers the queue depth, batch size, commit latency and failure
+     * metrics of the queue.
+     * @param registry The registry to register the metrics with.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("report.write.queue.depth", this,
+                ReportWriteQueue::depth).register(registry);
+        commitLatency = Timer.builder("report.write.commit.latency")
+                .publishPercentiles(0.5, 0.99).register(registry);
+        batchSize = DistributionSummary.builder("report.write.batch.size")
+                .register(registry);
+        failures = Counter.builder("report.write.failures")
+                .register(registry);
+    }
+
+    /**
+     * Takes groups of reports off the queue and commits them until stopped
+     * and drained. Once interrupted it stops waiting for reports, commits
+     * the queued ones group by group and fails whatever is left.
+     */
+    private void writeLoop() {
+        List<PendingReport> group = new ArrayList<>(maxBatchSize);
+        boolean interrupted = false;
+        while (!interrupted && (running || !queue.isEmpty())) {
+            try {
+                PendingReport first = queue.poll(IDLE_POLL_MILLIS,
+                        TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (group.size() < maxBatchSize) {
+                    queue.drainTo(group, maxBatchSize - group.size());
+                    long wait = deadline - System.nanoTime();
+                    if (group.size() == maxBatchSize || wait <= 0) {
+                        break;
+                    }
+                    PendingReport next = queue.poll(wait,
+                            TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                commit(group);
+                group.clear();
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            commit(group);
+            group.clear();
+            while (queue.drainTo(group, maxBatchSize) > 0) {
+                commit(group);
+                group.clear();
+            }
+        }
+        failLeftovers();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Fails the reports still queued, once no writer will take them.
+     */
+    private void failLeftovers() {
+        List<PendingReport> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (leftovers.isEmpty()) {
+            return;
+        }
+        LOGGER.error(ReportLoggerMessage.REPORT_QUEUE_NOT_DRAINED,
+                leftovers.size());
+        RejectedExecutionException stopped =
+                new RejectedExecutionException(Message.REPORT_QUEUE_STOPPED);
+        leftovers.forEach(
+                pending -> pending.committed().completeExceptionally(stopped));
+    }
+
+    /**
+     * Saves a group of reports in one transaction. If the group fails, its
+     * reports are saved one by one so that a single bad report does not
+     * fail the others.
+     * @param group The reports to save.
+     */
+    private void commit(final List<PendingReport> group) {
+        if (group.isEmpty()) {
+            return;
+        }
+        List<Report> reports = new ArrayList<>(group.size());
+        group.forEach(pending -> reports.add(pending.report()));
+        long started = System.nanoTime();
+        try {
+            List<Report> saved = reportRepository.saveAll(reports);
+            record(started, group.size());
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).committed().complete(saved.get(i));
+            }
+        } catch (RuntimeException groupFailure) {
+            LOGGER.warn(ReportLoggerMessage.REPORT_GROUP_COMMIT_FAILED,
+                    group.size(), groupFailure.getMessage());
+            for (PendingReport pending : group) {
+                long itemStarted = System.nanoTime();
+                try {
+                    Report saved = reportRepository.save(pending.report());
+                    record(itemStarted, 1);
+                    pending.committed().complete(saved);
+                } catch (RuntimeException exception) {
+                    if (failures != null) {
+                        failures.increment();
+                    }
+                    LOGGER.error(ReportLoggerMessage.REPORT_WRITE_FAILED,
+                            pending.report().getUserEmailId(),
+                            pending.report().getQuizId(),
+                            exception.getMessage());
+                    pending.committed().completeExceptionally(exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the latency and size of a commit.
+     * @param started The {@link System#nanoTime()} the commit started at.
+     * @param reports The number of reports committed.
+     */
+    private void record(final long started, final int reports) {
+        if (commitLatency != null) {
+            commitLatency.record(System.nanoTime() - started,
+                    TimeUnit.NANOSECONDS);
+            batchSize.record(reports);
+        }
+    }
+}
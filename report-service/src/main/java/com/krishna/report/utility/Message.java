@@ -192,6 +192,50 @@ public final class Message {
     public static final String REPORT_NOT_FOUND =
             "Report does not exist.";
 
+    /**
+     * Error message indicating that a submitted report is empty.
+     */
+    public static final String REPORT_EMPTY =
+            "Report cannot be empty.";
+
+    /**
+     * Success message indicating that a report is queued for saving.
+     */
+    public static final String REPORT_ACCEPTED =
+            "Report accepted and queued for saving.";
+
+    /**
+     * Error message indicating that a batch holds too many reports.
+     */
+    public static final String BATCH_TOO_LARGE =
+            "Too many reports in one batch, the most allowed is ";
+
+    /**
+     * Error message indicating that the report queue is full.
+     */
+    public static final String REPORT_QUEUE_FULL =
+            "Too many reports are waiting to be saved, please retry.";
+
+    /**
+     * Error message indicating that the report queue is stopped.
+     */
+    public static final String REPORT_QUEUE_STOPPED =
+            "Reports are not being saved right now, please retry.";
+
+    /**
+     * Error message indicating that a queued report was not confirmed in
+     * time; it may still be saved.
+     */
+    public static final String REPORT_NOT_CONFIRMED =
+            "The report was queued but not confirmed in time; it may still "
+            + "be saved, check before submitting it again.";
+
+    /**
+     * Error message indicating that indexes the queries rely on are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes, run the migrations: ";
+
     private Message() {
     }
 }
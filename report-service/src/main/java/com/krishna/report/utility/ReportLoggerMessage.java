@@ -43,6 +43,62 @@ public final class ReportLoggerMessage {
     */
     public static final String ALL_REPORTS_RETRIEVED_SUCCESSFULLY =
             "All Reports Retrieved Successfully.";
+
+    /**
+     * Log message indicating that a request has been received to export all
+     * reports.
+     */
+    public static final String EXPORT_REPORTS_REQUEST =
+            "Received a request to export all reports.";
+
+    /**
+     * Log message indicating that a batch of reports has been submitted.
+     */
+    public static final String CREATE_REPORTS_REQUEST =
+            "Received a request to create a batch of {} reports.";
+
+    /**
+     * Log message indicating the outcome of a batch submission.
+     */
+    public static final String REPORTS_CREATED =
+            "Created {} of {} submitted reports.";
+
+    /**
+     * Log message indicating that a group commit failed and its reports are
+     * saved one by one.
+     */
+    public static final String REPORT_GROUP_COMMIT_FAILED =
+            "Group commit of {} reports failed, saving them one by one: {}";
+
+    /**
+     * Log message indicating that a queued report could not be saved.
+     */
+    public static final String REPORT_WRITE_FAILED =
+            "Could not save the report of {} for quiz {}: {}";
+
+    /**
+     * Log message indicating that reports were still queued at shutdown.
+     */
+    public static final String REPORT_QUEUE_NOT_DRAINED =
+            "{} queued reports were not saved before shutdown";
+
+    /**
+     * Log message indicating that a queued report was not confirmed in time.
+     */
+    public static final String REPORT_NOT_CONFIRMED =
+            "Report of user {} was not confirmed as saved within {}";
+
+    /**
+     * Log message indicating that expected indexes are missing.
+     */
+    public static final String MISSING_INDEXES =
+            "Missing database indexes: {}";
+
+    /**
+     * Log message indicating that the expected indexes exist.
+     */
+    public static final String INDEXES_VERIFIED =
+            "All expected database indexes are present.";
     /**
      * Constructor to prevent he object creation.
      */
@@ -0,0 +1,22 @@
+-- Tables of the report service, as Hibernate used to create them with
+-- ddl-auto: update. IF NOT EXISTS keeps databases created that way intact.
+
+create table if not exists report (
+    report_id integer not null,
+    user_email_id varchar(255) not null,
+    quiz_id integer not null,
+    total_marks integer not null,
+    marks_obtained integer not null,
+    total_questions integer not null,
+    attempted_questions integer not null,
+    date_and_time varchar(255) not null,
+    wrong_answers integer not null,
+    primary key (report_id)
+) engine=InnoDB;
+
+create table if not exists report_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into report_seq (next_val)
+select 6010 from dual where not exists (select 1 from report_seq);
@@ -0,0 +1,4 @@
+-- ReportRepository.findByUserEmailId; the date column lets a user's history
+-- be read in order from the index.
+create index idx_report_user_email_date
+    on report (user_email_id, date_and_time);
@@ -0,0 +1,7 @@
+-- ReportRepository.findRowsByUserEmailId orders a user's history by report ID,
+-- which follows submission order; date_and_time is free-form text and does not
+-- sort chronologically. The (user_email_id, report_id) index replaces the one
+-- on (user_email_id, date_and_time) and reads the history in order.
+alter table report
+    drop index idx_report_user_email_date,
+    add index idx_report_user_email_id (user_email_id, report_id);
@@ -0,0 +1,61 @@
+package com.krishna.report.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.krishna.report.dto.ReportBatchResult;
+import com.krishna.report.dto.ReportDto;
+import com.krishna.report.exception.InvalidRequestException;
+import com.krishna.report.service.ReportService;
+
+class ReportControllerTest {
+
+	private ReportService reportService;
+
+	private ReportController reportController;
+
+	@BeforeEach
+	void setUp() {
+		reportService = mock(ReportService.class);
+		reportController = new ReportController();
+		ReflectionTestUtils.setField(reportController, "reportService",
+				reportService);
+		ReflectionTestUtils.setField(reportController, "maxBatchSize", 3);
+	}
+
+	@Test
+	void acceptsABatchOfTheMaximumSize() {
+		ReportBatchResult result = new ReportBatchResult();
+		result.setReceived(3);
+		result.setCreated(3);
+		when(reportService.createReports(anyList())).thenReturn(result);
+
+		assertEquals(HttpStatus.CREATED, reportController.createReports(
+				Collections.nCopies(3, new ReportDto())).getStatusCode());
+	}
+
+	@Test
+	void rejectsALargerBatchBeforeSavingAnything() {
+		List<ReportDto> reportDtos = Collections.nCopies(4, new ReportDto());
+
+		InvalidRequestException exception = assertThrows(
+				InvalidRequestException.class,
+				() -> reportController.createReports(reportDtos));
+		assertEquals("Too many reports in one batch, the most allowed is 3, "
+				+ "was 4", exception.getMessage());
+		verify(reportService, never()).createReports(anyList());
+	}
+}
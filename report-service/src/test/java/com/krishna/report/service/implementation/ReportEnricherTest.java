@@ -0,0 +1,107 @@
+package com.krishna.report.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.krishna.report.dto.QuizDto;
+import com.krishna.report.dto.RegistrationDto;
+import com.krishna.report.dto.ReportDto;
+import com.krishna.report.exception.ResourceNotFoundException;
+import com.krishna.report.externalService.CachedRegistrationService;
+import com.krishna.report.externalService.QuizService;
+
+class ReportEnricherTest {
+
+	private static final String EMAIL = "user@example.com";
+
+	private CachedRegistrationService registrationService;
+
+	private QuizService quizService;
+
+	private ExecutorService executor;
+
+	private ReportEnricher reportEnricher;
+
+	@BeforeEach
+	void setUp() {
+		registrationService = mock(CachedRegistrationService.class);
+		quizService = mock(QuizService.class);
+		executor = Executors.newSingleThreadExecutor();
+		reportEnricher = new ReportEnricher();
+		ReflectionTestUtils.setField(reportEnricher, "registrationService",
+				registrationService);
+		ReflectionTestUtils.setField(reportEnricher, "quizService",
+				quizService);
+		ReflectionTestUtils.setField(reportEnricher, "enrichmentExecutor",
+				executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	private static ReportDto report(final int quizId) {
+		ReportDto reportDto = new ReportDto();
+		reportDto.setUserEmailId(EMAIL);
+		reportDto.setQuizId(quizId);
+		return reportDto;
+	}
+
+	@Test
+	void attachesTheUserAndQuizOfEveryReport() {
+		RegistrationDto user = new RegistrationDto();
+		QuizDto quiz = new QuizDto();
+		when(registrationService.getUsersByEmails(anySet()))
+				.thenReturn(Map.of(EMAIL, user));
+		when(quizService.getQuizzesByIds(anySet()))
+				.thenReturn(Map.of(1, quiz));
+
+		ReportDto reportDto = reportEnricher.enrich(List.of(report(1)))
+				.get(0);
+		assertSame(user, reportDto.getUser());
+		assertSame(quiz, reportDto.getQuiz());
+	}
+
+	@Test
+	void failsWhenAUserIsMissing() {
+		when(registrationService.getUsersByEmails(anySet()))
+				.thenReturn(Map.of());
+		when(quizService.getQuizzesByIds(anySet()))
+				.thenReturn(Map.of(1, new QuizDto()));
+
+		ResourceNotFoundException exception = assertThrows(
+				ResourceNotFoundException.class,
+				() -> reportEnricher.enrich(List.of(report(1))));
+		assertEquals("User does not exist with Email id : " + EMAIL,
+				exception.getMessage());
+	}
+
+	@Test
+	void failsWhenAQuizIsMissing() {
+		when(registrationService.getUsersByEmails(anySet()))
+				.thenReturn(Map.of(EMAIL, new RegistrationDto()));
+		when(quizService.getQuizzesByIds(anySet()))
+				.thenReturn(Map.of(1, new QuizDto()));
+
+		ResourceNotFoundException exception = assertThrows(
+				ResourceNotFoundException.class,
+				() -> reportEnricher.enrich(List.of(report(1), report(2))));
+		assertEquals("Quiz does not exist with id : 2",
+				exception.getMessage());
+	}
+}
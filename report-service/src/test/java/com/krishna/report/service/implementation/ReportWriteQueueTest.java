@@ -0,0 +1,146 @@
+package com.krishna.report.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.krishna.report.entity.Report;
+import com.krishna.report.exception.ReportNotConfirmedException;
+import com.krishna.report.repository.ReportRepository;
+import com.krishna.report.utility.Message;
+
+class ReportWriteQueueTest {
+
+	private ReportRepository reportRepository;
+
+	private ReportWriteQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		reportRepository = mock(ReportRepository.class);
+		when(reportRepository.saveAll(anyList())).thenAnswer(
+				call -> new ArrayList<>(call.<List<Report>>getArgument(0)));
+		when(reportRepository.save(any(Report.class)))
+				.thenAnswer(call -> call.getArgument(0));
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (queue != null) {
+			queue.shutdown();
+		}
+	}
+
+	private static Report report(final int quizId) {
+		Report report = new Report();
+		report.setUserEmailId("user" + quizId + "@example.com");
+		report.setQuizId(quizId);
+		return report;
+	}
+
+	private void start(final int batchLimit, final Duration commitTimeout) {
+		queue = new ReportWriteQueue(reportRepository, 100, batchLimit,
+				Duration.ofSeconds(5), commitTimeout);
+		queue.start();
+	}
+
+	@Test
+	void savesAFullGroupInOneSaveAll() throws Exception {
+		start(3, Duration.ofSeconds(5));
+		List<CompletableFuture<Report>> committed = new ArrayList<>();
+		for (int quizId = 1; quizId <= 3; quizId++) {
+			committed.add(queue.submit(report(quizId)));
+		}
+		for (int i = 0; i < 3; i++) {
+			assertEquals(i + 1,
+					committed.get(i).get(5, TimeUnit.SECONDS).getQuizId());
+		}
+		verify(reportRepository, times(1)).saveAll(anyList());
+		verify(reportRepository, never()).save(any(Report.class));
+	}
+
+	@Test
+	void failsOnlyTheBadReportWhenTheGroupFails() throws Exception {
+		RuntimeException bad = new IllegalStateException("bad report");
+		when(reportRepository.saveAll(anyList())).thenThrow(bad);
+		when(reportRepository.save(any(Report.class))).thenAnswer(call -> {
+			Report report = call.getArgument(0);
+			if (report.getQuizId() == 2) {
+				throw bad;
+			}
+			return report;
+		});
+		start(3, Duration.ofSeconds(5));
+		CompletableFuture<Report> first = queue.submit(report(1));
+		CompletableFuture<Report> second = queue.submit(report(2));
+		CompletableFuture<Report> third = queue.submit(report(3));
+
+		assertEquals(1, first.get(5, TimeUnit.SECONDS).getQuizId());
+		assertEquals(3, third.get(5, TimeUnit.SECONDS).getQuizId());
+		ExecutionException failure = assertThrows(ExecutionException.class,
+				() -> second.get(5, TimeUnit.SECONDS));
+		assertSame(bad, failure.getCause());
+		verify(reportRepository, times(3)).save(any(Report.class));
+	}
+
+	@Test
+	void stopsWaitingForAnUnconfirmedCommitAfterTheTimeout()
+			throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		when(reportRepository.saveAll(anyList())).thenAnswer(call -> {
+			release.await(10, TimeUnit.SECONDS);
+			return new ArrayList<>(call.<List<Report>>getArgument(0));
+		});
+		start(1, Duration.ofMillis(200));
+		long started = System.nanoTime();
+		try {
+			assertThrows(ReportNotConfirmedException.class,
+					() -> queue.submitAndWait(report(1)));
+		} finally {
+			release.countDown();
+		}
+		assertTrue(System.nanoTime() - started
+				< TimeUnit.SECONDS.toNanos(5));
+	}
+
+	@Test
+	void returnsTheSavedReportOfADurableSubmit() {
+		start(1, Duration.ofSeconds(5));
+		assertEquals(7, queue.submitAndWait(report(7)).getQuizId());
+	}
+
+	@Test
+	void writesTheQueuedReportsOnShutdownAndRejectsLaterOnes()
+			throws Exception {
+		start(10, Duration.ofSeconds(5));
+		CompletableFuture<Report> queued = queue.submit(report(1));
+		queue.shutdown();
+
+		assertEquals(1, queued.get(5, TimeUnit.SECONDS).getQuizId());
+		RejectedExecutionException rejected = assertThrows(
+				RejectedExecutionException.class,
+				() -> queue.submit(report(2)));
+		assertEquals(Message.REPORT_QUEUE_STOPPED, rejected.getMessage());
+	}
+}
@@ -0,0 +1,43 @@
+package com.krishna.report.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+	@Test
+	void cachesALoadedValue() {
+		NearCache<String, String> cache =
+				new NearCache<>("test", 10, Duration.ofMinutes(1));
+		assertEquals("v1", cache.get("k", key -> "v1"));
+		assertEquals("v1", cache.get("k", key -> "v2"));
+	}
+
+	@Test
+	void dropsAValueLoadedAcrossAnInvalidation() {
+		NearCache<String, String> cache =
+				new NearCache<>("test", 10, Duration.ofMinutes(1));
+		assertEquals("stale", cache.get("k", key -> {
+			cache.invalidate(key);
+			return "stale";
+		}));
+		assertEquals(0, cache.size());
+		assertEquals("fresh", cache.get("k", key -> "fresh"));
+	}
+
+	@Test
+	void dropsValuesLoadedInBulkAcrossAnInvalidation() {
+		NearCache<String, String> cache =
+				new NearCache<>("test", 10, Duration.ofMinutes(1));
+		assertEquals(Map.of("a", "stale"), cache.getAll(Set.of("a"), keys -> {
+			cache.invalidateAll();
+			return Map.of("a", "stale");
+		}));
+		assertEquals(0, cache.size());
+	}
+}